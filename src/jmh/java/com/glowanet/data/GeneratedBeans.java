@@ -0,0 +1,88 @@
+package com.glowanet.data;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ClassLoadingStrategy;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates java beans with a given number of properties for the benchmarks.
+ * <p>
+ * Every bean type has the {@code String} properties {@code property0} up to {@code property<n-1>},
+ * each with a field, a getter and a setter.
+ */
+public final class GeneratedBeans {
+
+    public static final String PROPERTY_PREFIX = "property";
+    public static final String ID_PROPERTY     = PROPERTY_PREFIX + 0;
+    public static final String HIT             = "hit";
+    public static final String MISS            = "miss";
+
+    private static final Map<Integer, Class<?>> BEAN_TYPES = new ConcurrentHashMap<>();
+
+    private GeneratedBeans() {
+        // static helper
+    }
+
+    /**
+     * @param propertyCount the number of properties
+     *
+     * @return the bean type with {@code propertyCount} properties
+     */
+    public static Class<?> beanType(int propertyCount) {
+        return BEAN_TYPES.computeIfAbsent(propertyCount, GeneratedBeans::defineBeanType);
+    }
+
+    /**
+     * @param propertyCount the number of properties
+     *
+     * @return a new bean, property {@code i} has the value {@code "value<i>"}
+     */
+    public static Object newBean(int propertyCount) {
+        try {
+            Object bean = beanType(propertyCount).getConstructor().newInstance();
+            for (int i = 0; i < propertyCount; i++) {
+                writeProperty(bean, PROPERTY_PREFIX + i, "value" + i);
+            }
+            return bean;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param propertyCount the number of properties
+     * @param outcome       {@link #HIT} for an equal bean, {@link #MISS} for a bean with a different last property
+     *
+     * @return a new bean to compare with {@link #newBean(int)}
+     */
+    public static Object newBean(int propertyCount, String outcome) {
+        Object bean = newBean(propertyCount);
+        if (MISS.equals(outcome)) {
+            writeProperty(bean, PROPERTY_PREFIX + (propertyCount - 1), "different");
+        }
+        return bean;
+    }
+
+    private static void writeProperty(Object bean, String propertyName, Object value) {
+        try {
+            Field field = bean.getClass().getDeclaredField(propertyName);
+            field.setAccessible(true);
+            field.set(bean, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Class<?> defineBeanType(int propertyCount) {
+        DynamicType.Builder<Object> builder = new ByteBuddy().subclass(Object.class)
+                .name(GeneratedBeans.class.getPackageName() + ".GeneratedBean" + propertyCount);
+        for (int i = 0; i < propertyCount; i++) {
+            builder = builder.defineProperty(PROPERTY_PREFIX + i, String.class);
+        }
+        return builder.make().load(GeneratedBeans.class.getClassLoader(), ClassLoadingStrategy.Default.WRAPPER).getLoaded();
+    }
+}
@@ -0,0 +1,101 @@
+package com.glowanet.util.junit.jupiter.api.extension;
+
+import com.glowanet.data.GeneratedBeans;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ErrorCollector#checkThat(String, Object, Matcher)} and {@link ErrorCollector#checkAll(Iterable, Matcher)}
+ * per row of a data table, with and without stack traces.
+ * <p>
+ * The checks are called {@code callDepth} frames deep, as the cost of a stack trace grows with the depth of the stack.
+ * With {@code maxErrors} below the number of rows, most failures are only counted.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorCollectorBenchmark {
+
+    private static final int ROWS = 1000;
+
+    @Param({GeneratedBeans.HIT, GeneratedBeans.MISS})
+    private String outcome;
+
+    @Param({"false", "true"})
+    private boolean stackless;
+
+    @Param({"1", "64"})
+    private int callDepth;
+
+    @Param({"1000", "10"})
+    private int maxErrors;
+
+    private int              value;
+    private List<Integer>    rows;
+    private Matcher<Integer> matcher;
+    private ErrorCollector   collector;
+
+    @Setup
+    public void setUp() {
+        value = GeneratedBeans.HIT.equals(outcome) ? 1 : 2;
+        rows = Collections.nCopies(ROWS, value);
+        matcher = Matchers.equalTo(1);
+        collector = new ErrorCollector(maxErrors, 3);
+        if (stackless) {
+            collector.stackless();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int checkThatRows() {
+        return checkThatRows(callDepth);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public int checkAllRows() {
+        return checkAllRows(callDepth);
+    }
+
+    private int checkAllRows(int depth) {
+        if (depth > 1) {
+            return checkAllRows(depth - 1);
+        }
+        collector.checkAll(rows, matcher);
+        int errorSize = collector.getErrorSize();
+        collector.reset();
+        return errorSize;
+    }
+
+    private int checkThatRows(int depth) {
+        if (depth > 1) {
+            return checkThatRows(depth - 1);
+        }
+        for (int row = 0; row < ROWS; row++) {
+            collector.checkThat("row", value, matcher);
+        }
+        int errorSize = collector.getErrorSize();
+        collector.reset();
+        return errorSize;
+    }
+}
@@ -0,0 +1,56 @@
+package com.glowanet.util.reflect;
+
+import com.glowanet.data.GeneratedBeans;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookups of {@link ReflectionHelper} for found and not found fields.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReflectionLookupBenchmark {
+
+    @Param({"5", "50", "500"})
+    private int propertyCount;
+
+    @Param({GeneratedBeans.HIT, GeneratedBeans.MISS})
+    private String outcome;
+
+    private Object bean;
+    private String fieldName;
+
+    @Setup
+    public void setUp() {
+        bean = GeneratedBeans.newBean(propertyCount);
+        fieldName = GeneratedBeans.HIT.equals(outcome) ? GeneratedBeans.PROPERTY_PREFIX + (propertyCount - 1) : "notFound";
+    }
+
+    @Benchmark
+    public Field findField() {
+        return ReflectionHelper.findField(fieldName, bean);
+    }
+
+    @Benchmark
+    public List<PropertyDescriptor> findGetter() {
+        return ReflectionHelper.findGetter(bean);
+    }
+}
@@ -0,0 +1,61 @@
+package com.glowanet.util.reflect;
+
+import com.glowanet.data.GeneratedBeans;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the value reads of {@link ReflectionHelper} by field name, by field and by getter.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReflectionReadBenchmark {
+
+    @Param({"5", "50", "500"})
+    private int propertyCount;
+
+    private Object             bean;
+    private String             fieldName;
+    private Field              field;
+    private PropertyDescriptor getter;
+
+    @Setup
+    public void setUp() {
+        bean = GeneratedBeans.newBean(propertyCount);
+        fieldName = GeneratedBeans.PROPERTY_PREFIX + (propertyCount - 1);
+        field = ReflectionHelper.findField(fieldName, bean);
+        getter = ReflectionHelper.findGetter(bean).stream().filter(pd -> pd.getName().equals(fieldName)).findFirst().orElseThrow();
+    }
+
+    @Benchmark
+    public Object readFieldByName() {
+        return ReflectionHelper.readField(fieldName, bean);
+    }
+
+    @Benchmark
+    public Object readField() {
+        return ReflectionHelper.readField(field, bean);
+    }
+
+    @Benchmark
+    public Object readGetterValue() {
+        return ReflectionHelper.readGetterValue(getter, bean);
+    }
+}
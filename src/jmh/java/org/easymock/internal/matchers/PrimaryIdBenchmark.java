@@ -0,0 +1,66 @@
+package org.easymock.internal.matchers;
+
+import com.glowanet.data.GeneratedBeans;
+import com.glowanet.util.reflect.ReflectionHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link PrimaryId} with a single and a composite key, for beans with the same and with a different id.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimaryIdBenchmark {
+
+    @Param({"5", "50", "500"})
+    private int propertyCount;
+
+    @Param({GeneratedBeans.HIT, GeneratedBeans.MISS})
+    private String outcome;
+
+    private Object            expected;
+    private Object            actual;
+    private PrimaryId<Object> primaryId;
+    private PrimaryId<Object> compositeId;
+
+    @Setup
+    public void setUp() {
+        expected = GeneratedBeans.newBean(propertyCount);
+        actual = GeneratedBeans.newBean(propertyCount);
+        if (GeneratedBeans.MISS.equals(outcome)) {
+            ReflectionHelper.writeField(GeneratedBeans.ID_PROPERTY, actual, "otherId");
+        }
+        primaryId = new PrimaryId<>(expected, GeneratedBeans.ID_PROPERTY);
+        compositeId = new PrimaryId<>(expected, GeneratedBeans.PROPERTY_PREFIX + 1, GeneratedBeans.ID_PROPERTY);
+    }
+
+    @Benchmark
+    public boolean match() {
+        return primaryId.matches(actual);
+    }
+
+    @Benchmark
+    public boolean matchComposite() {
+        return compositeId.matches(actual);
+    }
+
+    @Benchmark
+    public PrimaryId<Object> create() {
+        return new PrimaryId<>(expected, GeneratedBeans.ID_PROPERTY);
+    }
+}
@@ -0,0 +1,63 @@
+package org.hamcrest.beans;
+
+import com.glowanet.data.GeneratedBeans;
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link HasSameValues} and {@link SamePropertiesValuesAs} for equal and different beans.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanMatcherBenchmark {
+
+    @Param({"5", "50", "500"})
+    private int propertyCount;
+
+    @Param({GeneratedBeans.HIT, GeneratedBeans.MISS})
+    private String outcome;
+
+    private Object          expected;
+    private Object          actual;
+    private Matcher<Object> hasSameValues;
+    private Matcher<Object> samePropertiesValuesAs;
+
+    @Setup
+    public void setUp() {
+        expected = GeneratedBeans.newBean(propertyCount);
+        actual = GeneratedBeans.newBean(propertyCount, outcome);
+        hasSameValues = HasSameValues.hasSameValues(expected);
+        samePropertiesValuesAs = SamePropertiesValuesAs.samePropertiesValuesAs(expected);
+    }
+
+    @Benchmark
+    public boolean hasSameValuesCreateAndMatch() {
+        return HasSameValues.hasSameValues(expected).matches(actual);
+    }
+
+    @Benchmark
+    public boolean hasSameValuesMatch() {
+        return hasSameValues.matches(actual);
+    }
+
+    @Benchmark
+    public boolean samePropertiesValuesAsMatch() {
+        return samePropertiesValuesAs.matches(actual);
+    }
+}
@@ -0,0 +1,66 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Matcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the bulk range check of {@link BulkBetween} with matching every value by {@link IsBetween}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkBetweenBenchmark {
+
+    private static final IsBetween.Range<Double> RANGE = new IsBetween.Range<>(0d, 1d);
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private double[]        values;
+    private ByteBuffer      direct;
+    private Matcher<Double> isBetween;
+
+    @Setup
+    public void setUp() {
+        values = new Random(42).doubles(size, 0d, 1d).toArray();
+        direct = ByteBuffer.allocateDirect(size * Double.BYTES);
+        direct.asDoubleBuffer().put(values);
+        isBetween = IsBetweenWithBound.between(RANGE);
+    }
+
+    @Benchmark
+    public long checkAllArray() {
+        return BulkBetween.checkAll(values, RANGE, true).getCount();
+    }
+
+    @Benchmark
+    public long checkAllDirectBuffer() {
+        return BulkBetween.checkAllDoubles(direct, RANGE, true).getCount();
+    }
+
+    @Benchmark
+    public long isBetweenEach() {
+        long count = 0;
+        for (double value : values) {
+            count += isBetween.matches(value) ? 0 : 1;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,72 @@
+package org.hamcrest.core;
+
+import com.glowanet.data.GeneratedBeans;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link IsBetween} and {@link IsBetweenWithBound} for values in and out of range.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IsBetweenBenchmark {
+
+    private static final Long LBOUND = 1L;
+    private static final Long UBOUND = 1000L;
+
+    @Param({GeneratedBeans.HIT, GeneratedBeans.MISS})
+    private String outcome;
+
+    private Long          value;
+    private Matcher<Long> between;
+    private Matcher<Long> betweenWithBound;
+
+    @Setup
+    public void setUp() {
+        value = GeneratedBeans.HIT.equals(outcome) ? 500L : 2000L;
+        between = IsBetween.between(LBOUND, UBOUND);
+        betweenWithBound = IsBetweenWithBound.between(LBOUND, UBOUND);
+    }
+
+    @Benchmark
+    public boolean betweenMatch() {
+        return between.matches(value);
+    }
+
+    @Benchmark
+    public boolean betweenWithBoundMatch() {
+        return betweenWithBound.matches(value);
+    }
+
+    @Benchmark
+    public String betweenDescribe() {
+        StringDescription description = new StringDescription();
+        between.describeTo(description);
+        between.describeMismatch(value, description);
+        return description.toString();
+    }
+
+    @Benchmark
+    public String betweenCreateAndDescribe() {
+        StringDescription description = new StringDescription();
+        IsBetween.between(LBOUND, UBOUND).describeTo(description);
+        return description.toString();
+    }
+}
@@ -1,6 +1,7 @@
 package com.glowanet.util.junit;
 
 import com.glowanet.util.junit.jupiter.api.extension.ErrorCollector;
+import com.glowanet.util.reflect.FieldAccessor;
 import com.glowanet.util.reflect.ReflectionHelper;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -8,12 +9,16 @@ import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.function.Executable;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Collection;
+import java.util.Optional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
-import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
@@ -27,6 +32,8 @@ public class TestResultHelper {
     public static final String                 COLLECTOR_NAME = "collector";
     public static final String                 ERRORS_NAME    = "errors";
     public static final String                 NOT_THROWN     = "expected %s to be thrown, but nothing was thrown";
+    public static final String                 NO_COLLECTOR   = "expected %s to have a field '" + COLLECTOR_NAME + "', but it has none";
+    public static final String                 NULL_COLLECTOR = "expected %s to have an ErrorCollector in field '" + COLLECTOR_NAME + "', but it has %s";
     public static final Matcher<Collection<?>> EMPTY_LIST     = Matchers.hasSize(0);
     public static final Matcher<Collection<?>> SINGLE_LIST    = Matchers.hasSize(1);
     public static final int                    NO_ERROR       = 0;
@@ -35,6 +42,16 @@ public class TestResultHelper {
 
     private static final Logger LOGGER = LogManager.getLogger();
 
+    /**
+     * The accessor of the field {@link #COLLECTOR_NAME} per test clazz, resolved once.
+     */
+    private static final ClassValue<Optional<FieldAccessor>> COLLECTOR_ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Optional<FieldAccessor> computeValue(Class<?> type) {
+            return Optional.ofNullable(ReflectionHelper.findField(COLLECTOR_NAME, type)).map(FieldAccessor::of);
+        }
+    };
+
     private TestResultHelper() {
         // static helper
     }
@@ -87,18 +104,11 @@ public class TestResultHelper {
     @SuppressWarnings("unchecked")
     public static void verifyCollector(Object collectorOrInstance, Matcher<?> errorSizeMatcher) {
         ErrorCollector collector = prepareCollector(collectorOrInstance);
-        if (isCollector(collector)) {
-            if (!errorSizeMatcher.matches(collector.getErrorSize())) {
-                logTheErrors(collector);
-            }
-            assertThat(collector.getErrorSize(), (Matcher<Number>) errorSizeMatcher);
-        } else {
-            // legacy mode
-            Object actualThrows = ReflectionHelper.readField(ERRORS_NAME, collector);
-            assertThat(actualThrows, notNullValue());
-            assertThat(actualThrows, instanceOf(Collection.class));
-            assertThat(((Collection<?>) actualThrows), (Matcher<Collection<?>>) errorSizeMatcher);
+        int errorSize = collector.getErrorSize();
+        if (!errorSizeMatcher.matches(errorSize)) {
+            logTheErrors(collector);
         }
+        assertThat(errorSize, (Matcher<Number>) errorSizeMatcher);
     }
 
     /**
@@ -108,13 +118,7 @@ public class TestResultHelper {
      * @throws AssertionError is thrown, if the {@code collectorOrInstance} has not the {@code errorSize}
      */
     public static void verifyCollector(Object collectorOrInstance, int errorSize) {
-        ErrorCollector collector = prepareCollector(collectorOrInstance);
-        if (isCollector(collector)) {
-            verifyCollector(collector, equalTo(errorSize));
-        } else {
-            // legacy mode
-            verifyCollector(collector, hasSize(errorSize));
-        }
+        verifyCollector(collectorOrInstance, equalTo(errorSize));
     }
 
     /**
@@ -144,9 +148,7 @@ public class TestResultHelper {
     public static void verifyCollectorWithReset(Object collectorOrInstance, Matcher<?> errorSizeMatcher) {
         ErrorCollector collector = prepareCollector(collectorOrInstance);
         verifyCollector(collector, errorSizeMatcher);
-        if (isCollector(collector)) {
-            collector.reset();
-        }
+        collector.reset();
     }
 
     /**
@@ -160,9 +162,7 @@ public class TestResultHelper {
     public static void verifyCollectorWithReset(Object collectorOrInstance, int errorSize) {
         ErrorCollector collector = prepareCollector(collectorOrInstance);
         verifyCollector(collector, errorSize);
-        if (isCollector(collector)) {
-            collector.reset();
-        }
+        collector.reset();
     }
 
     /**
@@ -242,10 +242,13 @@ public class TestResultHelper {
      * @throws AssertionError is thrown, if the {@code instance} does not contain a {@link ErrorCollector}
      */
     static ErrorCollector extractCollector(Object instance) {
-        Object field = ReflectionHelper.readField(COLLECTOR_NAME, instance);
-
-        assertThat(field, notNullValue());
-        assertThat(field, instanceOf(ErrorCollector.class));
+        assertThat(instance, notNullValue());
+        FieldAccessor accessor = COLLECTOR_ACCESSORS.get(instance.getClass())
+                .orElseThrow(() -> new AssertionError(String.format(NO_COLLECTOR, instance.getClass().getName())));
+        Object field = accessor.get(instance);
+        if (!(field instanceof ErrorCollector)) {
+            throw new AssertionError(String.format(NULL_COLLECTOR, instance.getClass().getName(), field));
+        }
         return (ErrorCollector) field;
     }
 
@@ -272,7 +275,7 @@ public class TestResultHelper {
      * @return TRUE=the {@code collectorOrInstance} is an {@link ErrorCollector}, else FALSE
      */
     static boolean isCollector(Object collectorOrInstance) {
-        return (instanceOf(ErrorCollector.class).matches(collectorOrInstance));
+        return collectorOrInstance instanceof ErrorCollector;
     }
 
     /**
@@ -294,12 +297,30 @@ public class TestResultHelper {
      */
     static void logTheErrors(Object collectorOrInstance) {
         ErrorCollector collector = prepareCollector(collectorOrInstance);
-        if (isCollector(collector)) {
-            if (collector.getErrorSize() > 0) {
-                LOGGER.error(String.format("These are the collected errors :%n%s", collector.getErrorTextsToString())); //NOSONAR java:S2629
-            } else {
-                LOGGER.error("No errors collected!");
-            }
+        if (collector.hasErrors()) {
+            LOGGER.error("These are the {} collected errors :", collector.getErrorSize());
+            collector.forEachErrorText(LOGGER::error);
+        } else {
+            LOGGER.error("No errors collected!");
+        }
+    }
+
+    /**
+     * Appends the collected errors as JSON Lines records to {@code exportFile}, which is created, if needed.
+     *
+     * @param collectorOrInstance an instance of a collector
+     * @param exportFile          the file to append to
+     *
+     * @return how many records are written
+     *
+     * @throws IOException if the file can not be written
+     * @see ErrorCollector#exportErrors(java.nio.channels.WritableByteChannel)
+     * @since 5.0.0
+     */
+    public static long exportTheErrors(Object collectorOrInstance, Path exportFile) throws IOException {
+        ErrorCollector collector = prepareCollector(collectorOrInstance);
+        try (FileChannel channel = FileChannel.open(exportFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            return collector.exportErrors(channel);
         }
     }
 }
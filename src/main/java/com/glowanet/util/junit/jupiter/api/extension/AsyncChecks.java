@@ -0,0 +1,158 @@
+package com.glowanet.util.junit.jupiter.api.extension;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * The asynchronous checks of an {@link ErrorCollector}, which are not joined yet.
+ * <p>
+ * Every check runs in its own virtual thread, if the JVM supports them (Java 21 and newer),
+ * else in a cached pool of daemon threads. The executor is created with the first check and shut down,
+ * when all checks are joined. The join is bounded: a check, which is not done in time, is cancelled and reported as {@link TimeoutException}.
+ *
+ * @see ErrorCollector#checkSucceedsAsync(Callable)
+ * @since 5.0.0
+ */
+final class AsyncChecks {
+
+    static final String SUBMITTED_AT = "Check submitted at %s";
+    static final String TIMED_OUT    = "Check not done within %s, cancelled";
+
+    private static final MethodHandle VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutor();
+
+    private final Queue<AsyncCheck> pending = new ConcurrentLinkedQueue<>();
+    private       ExecutorService   executor;
+
+    /**
+     * @return TRUE=the checks run in virtual threads, else FALSE
+     */
+    static boolean isVirtual() {
+        return VIRTUAL_THREAD_EXECUTOR != null;
+    }
+
+    /**
+     * @param check  the check, which returns its failure or null
+     * @param caller the caller, who submits the check
+     */
+    synchronized void submit(Callable<Throwable> check, StackTraceElement caller) {
+        if (executor == null) {
+            executor = newExecutor();
+        }
+        pending.add(new AsyncCheck(executor.submit(check), caller));
+    }
+
+    /**
+     * @return TRUE=no check is waiting to be joined, else FALSE
+     */
+    boolean isEmpty() {
+        return pending.isEmpty();
+    }
+
+    /**
+     * Waits for every check, in the order they were submitted, also for those which are submitted meanwhile.
+     * The checks, which are not done when {@code timeout} is over, are cancelled and reported as failures.
+     *
+     * @param failures the consumer of the failures
+     * @param timeout  how long to wait for all checks
+     */
+    void join(Consumer<Throwable> failures, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        do {
+            AsyncCheck check;
+            while ((check = pending.poll()) != null) {
+                Throwable failure = check.await(deadline, timeout);
+                if (failure != null) {
+                    failures.accept(failure);
+                }
+            }
+        } while (!shutdownIfDone());
+    }
+
+    private synchronized boolean shutdownIfDone() {
+        if (!pending.isEmpty()) {
+            return false;
+        }
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+        return true;
+    }
+
+    private static ExecutorService newExecutor() {
+        if (VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) VIRTUAL_THREAD_EXECUTOR.invokeExact();
+            } catch (Throwable e) { //NOSONAR java:S1181
+                throw new IllegalStateException(e);
+            }
+        }
+        return Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "ErrorCollector-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static MethodHandle findVirtualThreadExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Executors.class, "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) { //NOSONAR java:S1166
+            // before Java 21
+            return null;
+        }
+    }
+
+    private static final class AsyncCheck {
+
+        private final Future<Throwable> future;
+        private final StackTraceElement caller;
+
+        private AsyncCheck(Future<Throwable> future, StackTraceElement caller) {
+            this.future = future;
+            this.caller = caller;
+        }
+
+        /**
+         * @param deadline the {@link System#nanoTime()}, until the check is awaited
+         * @param timeout  the timeout of the join, for the message
+         *
+         * @return the failure of the check, which points to its caller, or null
+         */
+        private Throwable await(long deadline, Duration timeout) {
+            Throwable failure;
+            try {
+                failure = future.get(Math.max(0L, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                failure = new TimeoutException(String.format(TIMED_OUT, timeout));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                failure = e;
+            } catch (ExecutionException | CancellationException e) {
+                failure = e instanceof ExecutionException ? e.getCause() : e;
+            }
+            if (failure != null && !(failure instanceof FailureRecord) && caller != null) {
+                AssertionError origin = new AssertionError(String.format(SUBMITTED_AT, caller));
+                origin.setStackTrace(new StackTraceElement[]{caller});
+                failure.addSuppressed(origin);
+            }
+            return failure;
+        }
+    }
+}
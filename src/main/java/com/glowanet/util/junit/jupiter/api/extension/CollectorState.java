@@ -0,0 +1,170 @@
+package com.glowanet.util.junit.jupiter.api.extension;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * The errors, which an {@link ErrorCollector} collects for one test.
+ * <p>
+ * It is kept in the {@link ExtensionContext.Store} of the test, so tests running in parallel do not share their errors.
+ * When the test is done, the state is closed and the store releases it.
+ *
+ * @since 5.0.0
+ */
+final class CollectorState implements ExtensionContext.Store.CloseableResource {
+
+    private final Queue<Throwable>           errors      = new ConcurrentLinkedQueue<>();
+    private final Map<String, FailureRecord> duplicates  = new ConcurrentHashMap<>();
+    private final LongAdder                  errorCount  = new LongAdder();
+    private final AtomicInteger              keptCount   = new AtomicInteger();
+    private final AsyncChecks                asyncChecks = new AsyncChecks();
+    private final int                        maxErrors;
+    private final ErrorOverflow              overflow;
+
+    private volatile boolean closed;
+
+    /**
+     * @param maxErrors    how many errors are kept completely
+     * @param maxExemplars how many errors of a group are kept, after {@code maxErrors} is reached
+     */
+    CollectorState(int maxErrors, int maxExemplars) {
+        this.maxErrors = maxErrors;
+        this.overflow = new ErrorOverflow(maxExemplars);
+    }
+
+    /**
+     * @param error the error to keep or to count
+     */
+    void append(Throwable error) {
+        errorCount.increment();
+        if (claimSlot()) {
+            keep(error);
+        } else {
+            overflow.add(error);
+        }
+    }
+
+    /**
+     * Keeps only the first record of the same failure, the repeats are added to it.
+     * <p>
+     * Only the records, which are kept completely, are indexed. After the limit is reached,
+     * a new failure and its repeats are counted like any other error beyond the limit.
+     *
+     * @param failureRecord the record to keep, or to add to the same failure
+     *
+     * @see FailureRecord#getDuplicateKey()
+     */
+    void appendDeduplicated(FailureRecord failureRecord) {
+        errorCount.increment();
+        String duplicateKey = failureRecord.getDuplicateKey();
+        FailureRecord first = duplicates.get(duplicateKey);
+        if (first == null && claimSlot()) {
+            first = duplicates.putIfAbsent(duplicateKey, failureRecord);
+            if (first == null) {
+                keep(failureRecord);
+                return;
+            }
+            releaseSlot();
+        }
+        if (first == null) {
+            overflow.add(failureRecord);
+        } else {
+            first.addRepeat(failureRecord);
+        }
+    }
+
+    /**
+     * @return how many errors are collected
+     */
+    int size() {
+        return errorCount.intValue();
+    }
+
+    /**
+     * @return TRUE=no error is collected, else FALSE
+     */
+    boolean isEmpty() {
+        return errors.isEmpty() && overflow.isEmpty();
+    }
+
+    /**
+     * @param action the consumer of the kept errors, followed by those beyond the limit
+     */
+    void forEach(Consumer<? super Throwable> action) {
+        errors.forEach(action);
+        overflow.forEach(action);
+    }
+
+    /**
+     * Removes the errors one by one, while they are passed to {@code action}.
+     * An error, which is added meanwhile, is either passed or kept for the next call, but never dropped.
+     *
+     * @param action the consumer of the kept errors, followed by those beyond the limit
+     */
+    void drain(Consumer<? super Throwable> action) {
+        for (Throwable error = errors.poll(); error != null; error = errors.poll()) {
+            long drained = 1;
+            if (error instanceof FailureRecord) {
+                FailureRecord failureRecord = (FailureRecord) error;
+                duplicates.remove(failureRecord.getDuplicateKey(), failureRecord);
+                drained += failureRecord.getRepeatCount();
+            }
+            releaseSlot();
+            errorCount.add(-drained);
+            action.accept(error);
+        }
+        errorCount.add(-overflow.drain(action));
+    }
+
+    /**
+     * @return the asynchronous checks of the test
+     */
+    AsyncChecks asyncChecks() {
+        return asyncChecks;
+    }
+
+    /**
+     * @return TRUE=the error is kept completely, else FALSE
+     */
+    private boolean claimSlot() {
+        return maxErrors == ErrorCollector.UNLIMITED || keptCount.get() < maxErrors && keptCount.getAndIncrement() < maxErrors;
+    }
+
+    private void releaseSlot() {
+        if (maxErrors != ErrorCollector.UNLIMITED) {
+            keptCount.decrementAndGet();
+        }
+    }
+
+    private void keep(Throwable error) {
+        FailureRecord.captureCaller(error);
+        errors.add(error);
+    }
+
+    void clear() {
+        errors.clear();
+        duplicates.clear();
+        overflow.clear();
+        keptCount.set(0);
+        errorCount.reset();
+    }
+
+    /**
+     * @return TRUE=the test is done, so no error is added anymore, else FALSE
+     */
+    boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+}
@@ -1,9 +1,10 @@
 package com.glowanet.util.junit.jupiter.api.extension;
 
-import com.glowanet.util.reflect.ReflectionHelper;
+import com.glowanet.util.reflect.FieldAccessor;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.AfterEachCallback;
 import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
@@ -14,11 +15,28 @@ import org.junit.jupiter.api.function.Executable;
 import org.opentest4j.MultipleFailuresError;
 import org.opentest4j.TestAbortedException;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.StringJoiner;
 import java.util.concurrent.Callable;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -42,40 +60,147 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
  *     }
  * }
  * </pre>
+ * The collector can be used from several threads at once, e.g. from the workers of a thread pool.
+ * The errors are kept in a lock-free queue and reported in the order they were added.
+ * <p>
+ * The errors of a test are kept in its {@link ExtensionContext.Store}, so tests can run in parallel with one collector.
+ * A check finds the errors of its test by its thread, which is bound to the test in {@link #beforeEach(ExtensionContext)},
+ * and by the threads, which are started from there. Checks from other threads, e.g. of the common {@link ForkJoinPool},
+ * of a pool created before the test, or of a thread, which outlives its test, can not be assigned to a test.
+ * A collector in a static field reports them for the whole test class in {@link #afterAll(ExtensionContext)},
+ * never with another test. A collector in an instance field belongs to one test, so it reports them with this test.
+ * <p>
+ * To protect the heap, the number of kept errors can be limited with {@link ErrorCollectorLimit} or {@link #ErrorCollector(int, int)}.
+ * Beyond the limit, the errors are only counted and reported as "N more similar failures".
+ * <p>
+ * For large data tables, a {@link #stackless()} collector records failed checks without a stack trace,
+ * and a {@link #deduplicate()} collector keeps the same failure only once, with references to its repeats.
+ * Slow, independent checks can run concurrently with {@link #checkSucceedsAsync(Callable)}, they are joined after the test.
  *
  * @since 4.7
  */
 public class ErrorCollector implements BeforeAllCallback, AfterAllCallback, BeforeEachCallback, AfterEachCallback, AfterTestExecutionCallback {
 
+    /**
+     * Used as {@code maxErrors}, if the collector keeps every error.
+     */
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    /**
+     * How long the asynchronous checks are awaited by default, after the test.
+     *
+     * @since 5.0.0
+     */
+    public static final Duration DEFAULT_ASYNC_TIMEOUT = Duration.ofMinutes(1);
+
     private static final Logger LOGGER = LogManager.getLogger();
 
-    private final List<Throwable> errors = new ArrayList<>();
+    private static final String STATE_KEY            = "state";
+    private static final String CHECK_ALL_REASON     = "[index %d]";
+    private static final int    CHECK_ALL_BATCH_SIZE = 1024;
+
+    private static final ClassValue<List<Field>> LIMITED_FIELDS = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> type) {
+            List<Field> limitedFields = new ArrayList<>();
+            for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+                for (Field field : clazz.getDeclaredFields()) {
+                    if (field.isAnnotationPresent(ErrorCollectorLimit.class) && ErrorCollector.class.isAssignableFrom(field.getType())) {
+                        limitedFields.add(field);
+                    }
+                }
+            }
+            return List.copyOf(limitedFields);
+        }
+    };
+
+    private final ExtensionContext.Namespace             namespace = ExtensionContext.Namespace.create(ErrorCollector.class, this);
+    private final InheritableThreadLocal<CollectorState> testState = new InheritableThreadLocal<>();
+
+    private volatile CollectorState sharedState;
+    private volatile int            maxErrors;
+    private volatile int            maxExemplars;
+    private volatile boolean        limitResolved;
+    private volatile boolean        classLevel;
+    private volatile boolean        stackless;
+    private volatile boolean        deduplicate;
+    private volatile Duration       asyncTimeout = DEFAULT_ASYNC_TIMEOUT;
+
+    /**
+     * A collector, which keeps every error, unless its field is annotated with {@link ErrorCollectorLimit}.
+     */
+    public ErrorCollector() {
+        this.maxErrors = UNLIMITED;
+        this.sharedState = new CollectorState(UNLIMITED, 0);
+    }
+
+    /**
+     * A collector, which keeps {@code maxErrors} errors. The errors beyond are grouped by their type and message template,
+     * and only the first {@code maxExemplars} of every group are kept.
+     *
+     * @param maxErrors    how many errors are kept completely
+     * @param maxExemplars how many errors of a group are kept, after {@code maxErrors} is reached
+     *
+     * @throws IllegalArgumentException if a limit is negative
+     * @since 5.0.0
+     */
+    public ErrorCollector(int maxErrors, int maxExemplars) {
+        limit(maxErrors, maxExemplars);
+    }
 
     @Override
     public void beforeAll(ExtensionContext context) throws Exception {
         LOGGER.trace("beforeAll");
+        resolveLimit(context);
         reset();
+        classLevel = context != null;
     }
 
     @Override
     public void afterAll(ExtensionContext context) throws Exception {
         LOGGER.trace("afterAll");
+        if (classLevel) {
+            List<Throwable> errorsRead = new ArrayList<>();
+            sharedState.drain(error -> errorsRead.add(FailureRecord.materialize(error)));
+            assertEmpty(errorsRead);
+        }
     }
 
     @Override
     public void beforeEach(ExtensionContext context) throws Exception {
         LOGGER.trace("beforeEach");
+        resolveLimit(context);
+        if (context != null) {
+            testState.set(context.getStore(namespace)
+                    .getOrComputeIfAbsent(STATE_KEY, key -> new CollectorState(maxErrors, maxExemplars), CollectorState.class));
+        }
     }
 
     @Override
     public void afterEach(ExtensionContext context) throws Exception {
         LOGGER.trace("afterEach");
-        assertEmpty(errors);
+        List<Throwable> errorsRead = new ArrayList<>();
+        if (context != null) {
+            CollectorState state = context.getStore(namespace).remove(STATE_KEY, CollectorState.class);
+            testState.remove();
+            if (state != null) {
+                state.close();
+                state.forEach(error -> errorsRead.add(FailureRecord.materialize(error)));
+            }
+            if (!classLevel) {
+                // the collector belongs to this test only, so are the errors of unbound threads
+                sharedState.drain(error -> errorsRead.add(FailureRecord.materialize(error)));
+            }
+        } else {
+            forEachError(errorsRead::add);
+        }
+        assertEmpty(errorsRead);
     }
 
     @Override
     public void afterTestExecution(ExtensionContext context) throws Exception {
         LOGGER.trace("afterTestExecution");
+        joinAsyncChecks();
     }
 
     /**
@@ -156,10 +281,148 @@ public class ErrorCollector implements BeforeAllCallback, AfterAllCallback, Befo
         if (throwableException instanceof TestAbortedException) {
             AssertionError e = new AssertionError(throwableException.getMessage());
             e.initCause(throwableException);
-            errors.add(e);
+            append(e);
         } else {
-            errors.add(throwableException);
+            append(throwableException);
+        }
+    }
+
+    private void append(Throwable error) {
+        appendTo(state(), error);
+    }
+
+    private void appendTo(CollectorState state, Throwable error) {
+        if (deduplicate && error instanceof FailureRecord) {
+            state.appendDeduplicated((FailureRecord) error);
+        } else {
+            state.append(error);
+        }
+    }
+
+    /**
+     * @return the errors of the test of the current thread, or the shared errors, if the thread is not bound to a running test
+     */
+    private CollectorState state() {
+        CollectorState state = testState.get();
+        return state == null || state.isClosed() ? sharedState : state;
+    }
+
+    /**
+     * @param action the consumer of the errors of the current test and the shared errors
+     */
+    private void forEachState(Consumer<CollectorState> action) {
+        CollectorState shared = sharedState;
+        CollectorState state = state();
+        action.accept(state);
+        if (state != shared) {
+            action.accept(shared);
+        }
+    }
+
+    /**
+     * Takes the limit from the {@link ErrorCollectorLimit} of the field, which holds this collector.
+     *
+     * @param context the current extension context
+     */
+    private void resolveLimit(ExtensionContext context) {
+        if (limitResolved || context == null) {
+            return;
+        }
+        Object testInstance = context.getTestInstance().orElse(null);
+        for (Field field : LIMITED_FIELDS.get(context.getRequiredTestClass())) {
+            boolean isStatic = Modifier.isStatic(field.getModifiers());
+            if ((isStatic || testInstance != null) && FieldAccessor.of(field).get(isStatic ? null : testInstance) == this) {
+                ErrorCollectorLimit limit = field.getAnnotation(ErrorCollectorLimit.class);
+                limit(limit.maxErrors(), limit.exemplars());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Switches to stackless checks: a failed {@link #checkThat(String, Object, Matcher)} is recorded with its reason,
+     * the description of the matcher, the mismatch and the frame of its caller, but without filling in a stack trace.
+     * The records become {@link AssertionError}s, when the errors are reported.
+     *
+     * @return this collector
+     *
+     * @since 5.0.0
+     */
+    public ErrorCollector stackless() {
+        this.stackless = true;
+        return this;
+    }
+
+    /**
+     * @return TRUE=failed checks are recorded without a stack trace, else FALSE
+     *
+     * @see #stackless()
+     */
+    public boolean isStackless() {
+        return stackless;
+    }
+
+    /**
+     * Switches to deduplicated checks: a failed check, which has the same matcher description and mismatch template
+     * (values and numbers replaced) as an earlier one, is not kept again. It is counted and its reason is added as reference
+     * to the first failure, e.g. {@code "repeated 41 times, at: row 2, row 3, ..."}.
+     * The checks are recorded like {@link #stackless()} checks. {@link #getErrorSize()} still counts every failure.
+     *
+     * @return this collector
+     *
+     * @since 5.0.0
+     */
+    public ErrorCollector deduplicate() {
+        this.deduplicate = true;
+        return this;
+    }
+
+    /**
+     * @return TRUE=the same failure is kept only once, else FALSE
+     *
+     * @see #deduplicate()
+     */
+    public boolean isDeduplicate() {
+        return deduplicate;
+    }
+
+    /**
+     * Sets how long the asynchronous checks are awaited, when they are joined. The checks, which are not done in time,
+     * are cancelled and reported as {@link java.util.concurrent.TimeoutException}, which points to the caller of the check.
+     *
+     * @param timeout how long all checks together are awaited, by default {@link #DEFAULT_ASYNC_TIMEOUT}
+     *
+     * @return this collector
+     *
+     * @throws IllegalArgumentException if {@code timeout} is null, zero or negative
+     * @see #joinAsyncChecks()
+     * @since 5.0.0
+     */
+    public ErrorCollector asyncTimeout(Duration timeout) {
+        if (timeout == null || timeout.isZero() || timeout.isNegative()) {
+            throw new IllegalArgumentException(String.format("Timeout '%s' must be positive", timeout));
         }
+        this.asyncTimeout = timeout;
+        return this;
+    }
+
+    /**
+     * @return how long the asynchronous checks are awaited
+     *
+     * @see #asyncTimeout(Duration)
+     */
+    public Duration getAsyncTimeout() {
+        return asyncTimeout;
+    }
+
+    private void limit(int maxErrors, int maxExemplars) {
+        if (maxErrors < 0 || maxExemplars < 0) {
+            throw new IllegalArgumentException(String.format("Limit '%d/%d' must not be negative", maxErrors, maxExemplars));
+        }
+        this.maxErrors = maxErrors;
+        this.maxExemplars = maxExemplars;
+        this.sharedState = new CollectorState(maxErrors, maxExemplars);
+        this.limitResolved = true;
     }
 
     /**
@@ -185,6 +448,10 @@ public class ErrorCollector implements BeforeAllCallback, AfterAllCallback, Befo
      * @param <T>     the type of {@code value}
      */
     public <T> void checkThat(final String reason, final T value, final Matcher<T> matcher) {
+        if (stackless || deduplicate) {
+            checkThatStackless(reason, value, matcher);
+            return;
+        }
         checkSucceeds(new Callable<>() {
             public Object call() throws Exception {
                 assertThat(reason, value, matcher);
@@ -206,15 +473,228 @@ public class ErrorCollector implements BeforeAllCallback, AfterAllCallback, Befo
     public <T> T checkSucceeds(Callable<T> callable) {
         try {
             return callable.call();
-        } catch (TestAbortedException e) {
+        } catch (Throwable e) { //NOSONAR java:S1181
+            // like JUnit 4, also a failed assertion is an Error
+            addCheckError(e);
+            return null;
+        }
+    }
+
+    /**
+     * Runs {@code callable} in its own virtual thread (a daemon thread before Java 21), so many slow checks run concurrently.
+     * Adds to the table the exception, if any, thrown from {@code callable}, when the checks are joined after the test.
+     * The exception gets a suppressed {@link AssertionError}, which points to the caller of this method.
+     *
+     * @param callable a check
+     * @param <T>      the type which is used in {@code callable}
+     *
+     * @see #joinAsyncChecks()
+     * @since 5.0.0
+     */
+    public <T> void checkSucceedsAsync(Callable<T> callable) {
+        state().asyncChecks().submit(() -> {
+            try {
+                callable.call();
+                return null;
+            } catch (Throwable e) { //NOSONAR java:S1181
+                return e;
+            }
+        }, FailureRecord.callerFrame());
+    }
+
+    /**
+     * Checks {@code value} in its own virtual thread, like {@link #checkThat(Object, Matcher)}.
+     *
+     * @param value   a value which will be checked
+     * @param matcher the matcher which checks the {@code value}
+     * @param <T>     the type of {@code value}
+     *
+     * @see #checkThatAsync(String, Object, Matcher)
+     * @since 5.0.0
+     */
+    public <T> void checkThatAsync(final T value, final Matcher<T> matcher) {
+        checkThatAsync("", value, matcher);
+    }
+
+    /**
+     * Checks {@code value} in its own virtual thread, like {@link #checkThat(String, Object, Matcher)}.
+     * A failure is recorded like a {@link #stackless()} check, which points to the caller of this method,
+     * when the checks are joined after the test.
+     *
+     * @param reason  a message which will be displayed, if not matching
+     * @param value   a value which will be checked
+     * @param matcher the matcher which checks the {@code value}
+     * @param <T>     the type of {@code value}
+     *
+     * @see #joinAsyncChecks()
+     * @since 5.0.0
+     */
+    public <T> void checkThatAsync(final String reason, final T value, final Matcher<T> matcher) {
+        StackTraceElement caller = FailureRecord.callerFrame();
+        state().asyncChecks().submit(() -> {
+            try {
+                return matcher.matches(value) ? null : FailureRecord.of(reason, StringDescription.toString(matcher), value, matcher, caller);
+            } catch (Throwable e) { //NOSONAR java:S1181
+                return e;
+            }
+        }, caller);
+    }
+
+    /**
+     * Waits for all asynchronous checks and adds their failures to the table, in the order the checks were submitted.
+     * The checks, which are not done within {@link #getAsyncTimeout()}, are cancelled and added as failures.
+     * This is done in {@link #afterTestExecution(ExtensionContext)}, so it is only needed,
+     * if the errors are verified within the test.
+     *
+     * @see #checkSucceedsAsync(Callable)
+     * @see #checkThatAsync(String, Object, Matcher)
+     * @since 5.0.0
+     */
+    public void joinAsyncChecks() {
+        Duration timeout = asyncTimeout;
+        forEachState(state -> state.asyncChecks().join(failure -> appendTo(state, checkError(failure)), timeout));
+    }
+
+    private <T> void checkThatStackless(final String reason, final T value, final Matcher<T> matcher) {
+        try {
+            if (!matcher.matches(value)) {
+                append(FailureRecord.of(reason, value, matcher));
+            }
+        } catch (Throwable e) { //NOSONAR java:S1181
+            addCheckError(e);
+        }
+    }
+
+    /**
+     * Checks every element of {@code values} with {@code matcher}, one after the other.
+     * The elements are consumed lazily, so the input can be larger than the heap.
+     * For every element, which does not match, its index and its mismatch are recorded, like a {@link #stackless()} check.
+     *
+     * @param values  the values which will be checked
+     * @param matcher the matcher which checks every value
+     * @param <T>     the type of the values
+     *
+     * @since 5.0.0
+     */
+    public <T> void checkAll(final Iterable<T> values, final Matcher<? super T> matcher) {
+        String expected = StringDescription.toString(matcher);
+        StackTraceElement caller = FailureRecord.callerFrame();
+        long index = 0;
+        for (T value : values) {
+            checkOne(index++, value, matcher, expected, caller, this::append);
+        }
+    }
+
+    /**
+     * Checks every element of {@code values} with {@code matcher}, one after the other.
+     * The stream is consumed lazily, but not closed.
+     *
+     * @param values  the values which will be checked
+     * @param matcher the matcher which checks every value
+     * @param <T>     the type of the values
+     *
+     * @see #checkAll(Iterable, Matcher)
+     * @since 5.0.0
+     */
+    public <T> void checkAll(final Stream<T> values, final Matcher<? super T> matcher) {
+        checkAll((Iterable<T>) values::iterator, matcher);
+    }
+
+    /**
+     * Checks every element of {@code values} with {@code matcher} in parallel on the {@code pool}.
+     * The elements are read by the calling thread and checked in batches,
+     * of which only a few per worker of the {@code pool} are waiting at once, so the input is never held completely.
+     * The failures are recorded in the order of the elements, when all checks are done.
+     *
+     * @param values  the values which will be checked
+     * @param matcher the matcher which checks every value, must be thread-safe
+     * @param pool    the pool which runs the checks
+     * @param <T>     the type of the values
+     *
+     * @see #checkAll(Iterable, Matcher)
+     * @since 5.0.0
+     */
+    public <T> void checkAll(final Iterable<T> values, final Matcher<? super T> matcher, final ForkJoinPool pool) {
+        String expected = StringDescription.toString(matcher);
+        StackTraceElement caller = FailureRecord.callerFrame();
+        int maxPending = 2 * pool.getParallelism();
+        Deque<ForkJoinTask<List<Throwable>>> pending = new ArrayDeque<>(maxPending + 1);
+        try {
+            long index = 0;
+            List<T> batch = new ArrayList<>(CHECK_ALL_BATCH_SIZE);
+            for (T value : values) {
+                batch.add(value);
+                if (batch.size() == CHECK_ALL_BATCH_SIZE) {
+                    pending.add(pool.submit(checkBatch(index, batch, matcher, expected, caller)));
+                    index += batch.size();
+                    batch = new ArrayList<>(CHECK_ALL_BATCH_SIZE);
+                    if (pending.size() > maxPending) {
+                        pending.removeFirst().join().forEach(this::append);
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                pending.add(pool.submit(checkBatch(index, batch, matcher, expected, caller)));
+            }
+            while (!pending.isEmpty()) {
+                pending.removeFirst().join().forEach(this::append);
+            }
+        } finally {
+            pending.forEach(task -> task.cancel(false));
+        }
+    }
+
+    /**
+     * Checks every element of {@code values} with {@code matcher} in parallel on the {@code pool}.
+     * The stream is consumed lazily, but not closed.
+     *
+     * @param values  the values which will be checked
+     * @param matcher the matcher which checks every value, must be thread-safe
+     * @param pool    the pool which runs the checks
+     * @param <T>     the type of the values
+     *
+     * @see #checkAll(Iterable, Matcher, ForkJoinPool)
+     * @since 5.0.0
+     */
+    public <T> void checkAll(final Stream<T> values, final Matcher<? super T> matcher, final ForkJoinPool pool) {
+        checkAll((Iterable<T>) values::iterator, matcher, pool);
+    }
+
+    private <T> Callable<List<Throwable>> checkBatch(long firstIndex, List<T> batch, Matcher<? super T> matcher, String expected,
+                                                     StackTraceElement caller) {
+        return () -> {
+            List<Throwable> failures = new ArrayList<>();
+            for (int i = 0; i < batch.size(); i++) {
+                checkOne(firstIndex + i, batch.get(i), matcher, expected, caller, failures::add);
+            }
+            return failures;
+        };
+    }
+
+    private <T> void checkOne(long index, T value, Matcher<? super T> matcher, String expected, StackTraceElement caller,
+                              Consumer<Throwable> failures) {
+        try {
+            if (!matcher.matches(value)) {
+                failures.accept(FailureRecord.of(String.format(CHECK_ALL_REASON, index), expected, value, matcher, caller));
+            }
+        } catch (Throwable e) { //NOSONAR java:S1181
+            AssertionError error = new AssertionError(String.format(CHECK_ALL_REASON, index) + " " + e);
+            error.initCause(e);
+            failures.accept(error);
+        }
+    }
+
+    private void addCheckError(Throwable e) {
+        addError(checkError(e));
+    }
+
+    private static Throwable checkError(Throwable e) {
+        if (e instanceof TestAbortedException) {
             AssertionError error = new AssertionError("Callable threw TestAbortedException");
             error.initCause(e);
-            addError(error);
-            return null;
-        } catch (Exception e) {
-            addError(e);
-            return null;
+            return error;
         }
+        return e;
     }
 
     /**
@@ -237,24 +717,66 @@ public class ErrorCollector implements BeforeAllCallback, AfterAllCallback, Befo
     }
 
     /**
-     * Write a list of throwables into the collector.
+     * Replace the collected throwables with a list of throwables.
+     * Errors, which are added concurrently, may get lost.
      *
      * @param errors List of throwables
      */
     protected void writeErrors(List<Throwable> errors) {
-        ReflectionHelper.writeField("errors", this, errors);
+        reset();
+        if (errors != null) {
+            errors.stream().filter(Objects::nonNull).forEach(this::append);
+        }
     }
 
     /**
-     * @return How many errors are collected.
+     * @return How many errors are collected, without copying or counting them. Errors beyond the limit are included.
      */
     public int getErrorSize() {
-        int size = 0;
-        List<Throwable> errorsRead = readErrors();
-        if (errorsRead != null) {
-            size = readErrors().size();
-        }
-        return size;
+        CollectorState shared = sharedState;
+        CollectorState state = state();
+        return state == shared ? state.size() : state.size() + shared.size();
+    }
+
+    /**
+     * @return how many errors are kept completely, or {@link #UNLIMITED}
+     *
+     * @see ErrorCollectorLimit#maxErrors()
+     */
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    /**
+     * @return how many errors of a group are kept, after {@link #getMaxErrors()} is reached
+     *
+     * @see ErrorCollectorLimit#exemplars()
+     */
+    public int getMaxExemplars() {
+        return maxExemplars;
+    }
+
+    /**
+     * @return TRUE=at least one error is collected, else FALSE
+     */
+    public boolean hasErrors() {
+        CollectorState shared = sharedState;
+        return !state().isEmpty() || !shared.isEmpty();
+    }
+
+    /**
+     * Passes every collected error to {@code action}, in the order they were added, without copying them.
+     * Beyond the limit, the exemplars of every group are passed, each group followed by a summary of its other errors.
+     * The records of stackless checks are passed as new {@link AssertionError}s.
+     *
+     * @param action the consumer of the errors
+     */
+    public void forEachError(Consumer<? super Throwable> action) {
+        forEachCollected(error -> action.accept(FailureRecord.materialize(error)));
+    }
+
+    private void forEachCollected(Consumer<? super Throwable> action) {
+        forEachState(state -> state.forEach(action));
     }
 
     /**
@@ -263,13 +785,8 @@ public class ErrorCollector implements BeforeAllCallback, AfterAllCallback, Befo
      * @see #getErrorTextsToString()
      */
     public List<String> getErrorTexts() {
-        List<Throwable> errorsRead = readErrors();
         List<String> errorTexts = new ArrayList<>();
-        if (errorsRead != null) {
-            errorTexts = errorsRead.stream()
-                    .map(m -> Optional.ofNullable(m.getMessage()).orElse(m.getClass().getName()))
-                    .collect(Collectors.toList());
-        }
+        forEachErrorText(errorTexts::add);
         return errorTexts;
     }
 
@@ -277,25 +794,83 @@ public class ErrorCollector implements BeforeAllCallback, AfterAllCallback, Befo
      * @return All collected error messages, delimited with '\n'
      *
      * @see #getErrorTexts()
+     * @see #exportErrors(Writer)
      */
     public String getErrorTextsToString() {
-        return getErrorTexts().stream()
-                .map(String::toString)
-                .collect(Collectors.joining("\n"));
+        StringJoiner errorTexts = new StringJoiner("\n");
+        forEachErrorText(errorTexts::add);
+        return errorTexts.toString();
+    }
+
+    /**
+     * Passes the message of every collected error to {@code action}, without creating the errors of stackless checks.
+     *
+     * @param action the consumer of the messages
+     *
+     * @see #forEachError(Consumer)
+     * @since 5.0.0
+     */
+    public void forEachErrorText(Consumer<String> action) {
+        forEachCollected(m -> action.accept(Optional.ofNullable(m.getMessage()).orElse(m.getClass().getName())));
+    }
+
+    /**
+     * Writes every collected error as one JSON Lines record to {@code writer}, e.g. for tools, which aggregate the failures.
+     * The records are written one by one, through a {@link BufferedWriter}, which is flushed, but not closed.
+     * <pre>
+     * {"index":0,"type":"java.lang.AssertionError","message":"...","location":"a.bTest.testC(bTest.java:42)"}
+     * </pre>
+     *
+     * @param writer the target of the records
+     *
+     * @return how many records are written
+     *
+     * @throws IOException if the records can not be written
+     * @since 5.0.0
+     */
+    public long exportErrors(Writer writer) throws IOException {
+        Writer buffered = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer);
+        JsonLinesExporter exporter = new JsonLinesExporter(buffered);
+        try {
+            forEachCollected(exporter::write);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        buffered.flush();
+        return exporter.getCount();
+    }
+
+    /**
+     * Writes every collected error as one JSON Lines record in UTF-8 to {@code channel}, which is not closed.
+     *
+     * @param channel the target of the records, e.g. a {@link java.nio.channels.FileChannel}
+     *
+     * @return how many records are written
+     *
+     * @throws IOException if the records can not be written
+     * @see #exportErrors(Writer)
+     * @since 5.0.0
+     */
+    public long exportErrors(WritableByteChannel channel) throws IOException {
+        return exportErrors(Channels.newWriter(channel, StandardCharsets.UTF_8));
     }
 
     /**
      * Clear the collector.
      */
     public void reset() {
-        writeErrors(new ArrayList<>());
+        forEachState(CollectorState::clear);
     }
 
     /**
-     * @return List or collected throwables.
+     * @return List or collected throwables, a snapshot in the order they were added.
+     *
+     * @see #forEachError(Consumer)
      */
     protected List<Throwable> readErrors() {
-        return ReflectionHelper.readField("errors", this);
+        List<Throwable> errorsRead = new ArrayList<>(Math.min(getErrorSize(), maxErrors));
+        forEachError(errorsRead::add);
+        return errorsRead;
     }
 
 }
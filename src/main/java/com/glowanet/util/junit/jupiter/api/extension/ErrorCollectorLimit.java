@@ -0,0 +1,39 @@
+package com.glowanet.util.junit.jupiter.api.extension;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits how many errors an {@link ErrorCollector} keeps with their full stack trace.
+ * <p>
+ * Put it on the field, which registers the collector:
+ * <pre>
+ * &#064;RegisterExtension
+ * &#064;ErrorCollectorLimit(maxErrors = 100, exemplars = 2)
+ * public ErrorCollector collector = new ErrorCollector();
+ * </pre>
+ * Errors beyond {@link #maxErrors()} are only counted, grouped by their type and message template.
+ * Of every group the first {@link #exemplars()} errors are kept.
+ *
+ * @author Oliver Glowa
+ * @see ErrorCollector#ErrorCollector(int, int)
+ * @since 5.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface ErrorCollectorLimit {
+
+    /**
+     * @return how many errors are kept completely
+     */
+    int maxErrors() default 1000;
+
+    /**
+     * @return how many errors of a group are kept, after {@link #maxErrors()} is reached
+     */
+    int exemplars() default 3;
+}
@@ -0,0 +1,172 @@
+package com.glowanet.util.junit.jupiter.api.extension;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * The errors of an {@link ErrorCollector}, which are beyond its limit.
+ * <p>
+ * The errors are only counted, grouped by their type and message template, and the first exemplars of every group are kept.
+ * In the template, the values and numbers of the message are replaced by placeholders,
+ * so {@code "Expected: <1> but: was <2>"} and {@code "Expected: <3> but: was <4>"} are in the same group.
+ *
+ * @see ErrorCollectorLimit
+ * @since 5.0.0
+ */
+final class ErrorOverflow {
+
+    static final String SIMILAR_FAILURES = "%d more similar failures: %s";
+
+    private static final int MAX_TEMPLATE_LENGTH = 256;
+
+    private final int                maxExemplars;
+    private final Map<String, Group> groups = new ConcurrentHashMap<>();
+    private final Queue<Group>       order  = new ConcurrentLinkedQueue<>();
+
+    ErrorOverflow(int maxExemplars) {
+        this.maxExemplars = maxExemplars;
+    }
+
+    /**
+     * @param error the error to count
+     */
+    void add(Throwable error) {
+        groups.computeIfAbsent(templateOf(error), this::newGroup).add(error);
+    }
+
+    /**
+     * @return TRUE=no error was counted, else FALSE
+     */
+    boolean isEmpty() {
+        return order.isEmpty();
+    }
+
+    /**
+     * Passes the exemplars of every group to {@code action}, followed by a summary of the errors, which are only counted.
+     *
+     * @param action the consumer of the errors
+     */
+    void forEach(Consumer<? super Throwable> action) {
+        for (Group group : order) {
+            int exemplarCount = 0;
+            for (Throwable exemplar : group.exemplars) {
+                action.accept(exemplar);
+                exemplarCount++;
+            }
+            long more = group.count.sum() - exemplarCount;
+            if (more > 0) {
+                action.accept(new AssertionError(String.format(SIMILAR_FAILURES, more, group.template)));
+            }
+        }
+    }
+
+    /**
+     * Like {@link #forEach(Consumer)}, but removes every group, before its errors are passed to {@code action}.
+     * An error, which is added meanwhile, starts a new group, which is passed or kept for the next call.
+     *
+     * @param action the consumer of the errors
+     *
+     * @return how many errors are removed
+     */
+    long drain(Consumer<? super Throwable> action) {
+        long drained = 0;
+        for (Group group = order.poll(); group != null; group = order.poll()) {
+            groups.remove(group.template, group);
+            long count = group.count.sumThenReset();
+            int exemplarCount = 0;
+            for (Throwable exemplar = group.exemplars.poll(); exemplar != null; exemplar = group.exemplars.poll()) {
+                action.accept(exemplar);
+                exemplarCount++;
+            }
+            if (count > exemplarCount) {
+                action.accept(new AssertionError(String.format(SIMILAR_FAILURES, count - exemplarCount, group.template)));
+            }
+            drained += count;
+        }
+        return drained;
+    }
+
+    void clear() {
+        groups.clear();
+        order.clear();
+    }
+
+    /**
+     * @param error an error
+     *
+     * @return the type and the message of {@code error}, without its values and numbers
+     */
+    static String templateOf(Throwable error) {
+        // a record is reported as assertion error, so it is grouped like one
+        String type = (error instanceof FailureRecord ? AssertionError.class : error.getClass()).getName();
+        String message = error.getMessage();
+        if (message == null) {
+            return type;
+        }
+        return templateOf(new StringBuilder(type.length() + 2 + Math.min(message.length(), MAX_TEMPLATE_LENGTH)).append(type).append(": "),
+                message);
+    }
+
+    /**
+     * @param message a message
+     *
+     * @return {@code message} without its values and numbers
+     */
+    static String templateOf(String message) {
+        return templateOf(new StringBuilder(Math.min(message.length(), MAX_TEMPLATE_LENGTH)), message);
+    }
+
+    private static String templateOf(StringBuilder template, String message) {
+        int length = Math.min(message.length(), MAX_TEMPLATE_LENGTH);
+        int i = 0;
+        while (i < length) {
+            char c = message.charAt(i);
+            int end = c == '<' || c == '"' ? message.indexOf(c == '<' ? '>' : '"', i + 1) : -1;
+            if (end >= 0) {
+                // a value, like hamcrest describes it
+                template.append("<?>");
+                i = end + 1;
+            } else if (Character.isDigit(c)) {
+                template.append('#');
+                while (i < length && Character.isDigit(message.charAt(i))) {
+                    i++;
+                }
+            } else {
+                template.append(c);
+                i++;
+            }
+        }
+        return template.toString();
+    }
+
+    private Group newGroup(String template) {
+        Group group = new Group(template);
+        order.add(group);
+        return group;
+    }
+
+    private final class Group {
+
+        private final String           template;
+        private final LongAdder        count         = new LongAdder();
+        private final AtomicInteger    exemplarSlots = new AtomicInteger();
+        private final Queue<Throwable> exemplars     = new ConcurrentLinkedQueue<>();
+
+        private Group(String template) {
+            this.template = template;
+        }
+
+        private void add(Throwable error) {
+            count.increment();
+            if (exemplarSlots.get() < maxExemplars && exemplarSlots.getAndIncrement() < maxExemplars) {
+                FailureRecord.captureCaller(error);
+                exemplars.add(error);
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.glowanet.util.junit.jupiter.api.extension;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+
+import java.util.Optional;
+import java.util.Queue;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A failed check of a stackless {@link ErrorCollector}, recorded without filling in a stack trace.
+ * <p>
+ * It only holds the reason, the description of the matcher, the mismatch and the frame of the caller.
+ * The caller is only captured for records, which are kept, not for those beyond the limit of the collector, which are only counted.
+ * When the collector reports its errors, the record is turned into the {@link AssertionError},
+ * which {@link org.hamcrest.MatcherAssert#assertThat(String, Object, Matcher)} would have thrown,
+ * with the caller as its only stack trace element.
+ * <p>
+ * A {@link ErrorCollector#deduplicate() deduplicating} collector keeps only the first record of the same failure,
+ * and adds the repeats to it by their reason.
+ *
+ * @see ErrorCollector#stackless()
+ * @since 5.0.0
+ */
+final class FailureRecord extends Throwable {
+
+    private static final long serialVersionUID = 1L;
+
+    static final int MAX_REPEAT_REASONS = 50;
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final String      COLLECTOR    = ErrorCollector.class.getName();
+
+    private final    String            reason;
+    private final    String            expected;
+    private final    String            mismatch;
+    private          StackTraceElement caller;
+    private volatile String            message;
+    private volatile Repeats           repeats;
+
+    private FailureRecord(String reason, String expected, String mismatch, StackTraceElement caller) {
+        super(null, null, false, false);
+        this.reason = reason;
+        this.expected = expected;
+        this.mismatch = mismatch;
+        this.caller = caller;
+    }
+
+    /**
+     * @param reason  a message which will be displayed
+     * @param value   the value, which does not match
+     * @param matcher the matcher, which does not match {@code value}
+     * @param <T>     the type of {@code value}
+     *
+     * @return the record of the failed check
+     */
+    static <T> FailureRecord of(String reason, T value, Matcher<? super T> matcher) {
+        return of(reason, StringDescription.toString(matcher), value, matcher, null);
+    }
+
+    /**
+     * Used for many checks with the same matcher, which is only described once.
+     *
+     * @param reason   a message which will be displayed
+     * @param expected the description of {@code matcher}
+     * @param value    the value, which does not match
+     * @param matcher  the matcher, which does not match {@code value}
+     * @param caller   the caller of the checks, or null to capture it later
+     * @param <T>      the type of {@code value}
+     *
+     * @return the record of the failed check
+     *
+     * @see #callerFrame()
+     */
+    static <T> FailureRecord of(String reason, String expected, T value, Matcher<? super T> matcher, StackTraceElement caller) {
+        Description mismatchDescription = new StringDescription();
+        matcher.describeMismatch(value, mismatchDescription);
+        return new FailureRecord(reason, expected, mismatchDescription.toString(), caller);
+    }
+
+    /**
+     * Captures the caller of the check, if {@code error} is a record. Must be called by the thread of the check,
+     * before the record is published to other threads.
+     *
+     * @param error an error, which is kept
+     */
+    static void captureCaller(Throwable error) {
+        if (error instanceof FailureRecord) {
+            FailureRecord failureRecord = (FailureRecord) error;
+            if (failureRecord.caller == null) {
+                failureRecord.caller = callerFrame();
+            }
+        }
+    }
+
+    /**
+     * @param error a collected error
+     *
+     * @return {@code error} itself, or the assertion error of a record
+     */
+    static Throwable materialize(Throwable error) {
+        return error instanceof FailureRecord ? ((FailureRecord) error).toAssertionError() : error;
+    }
+
+    /**
+     * @return the message of {@code assertThat}, followed by the repeats, if any
+     */
+    @Override
+    public String getMessage() {
+        String result = message;
+        if (result == null) {
+            result = reason + System.lineSeparator() + "Expected: " + expected + System.lineSeparator() + "     but: " + mismatch;
+            message = result;
+        }
+        Repeats currentRepeats = repeats;
+        return currentRepeats == null ? result : result + currentRepeats;
+    }
+
+    /**
+     * @return the key of the same failure: the description of the matcher and the template of the mismatch
+     */
+    String getDuplicateKey() {
+        return expected + '\n' + ErrorOverflow.templateOf(mismatch);
+    }
+
+    /**
+     * @param repeat the same failure at another place, which is only counted and referenced by its reason
+     */
+    void addRepeat(FailureRecord repeat) {
+        Repeats currentRepeats = repeats;
+        if (currentRepeats == null) {
+            synchronized (this) {
+                currentRepeats = repeats;
+                if (currentRepeats == null) {
+                    currentRepeats = new Repeats();
+                    repeats = currentRepeats;
+                }
+            }
+        }
+        currentRepeats.add(repeat.reason);
+    }
+
+    /**
+     * @return how often the same failure was added to this record
+     */
+    long getRepeatCount() {
+        Repeats currentRepeats = repeats;
+        return currentRepeats == null ? 0 : currentRepeats.count.sum();
+    }
+
+    /**
+     * @return the caller of the check
+     */
+    Optional<StackTraceElement> getCaller() {
+        return Optional.ofNullable(caller);
+    }
+
+    /**
+     * @return a new assertion error with the message of this record, which points to the caller of the check
+     */
+    AssertionError toAssertionError() {
+        AssertionError error = new AssertionError(getMessage());
+        getCaller().ifPresent(frame -> error.setStackTrace(new StackTraceElement[]{frame}));
+        return error;
+    }
+
+    /**
+     * The repeats of a record, only created for the first repeat.
+     */
+    private static final class Repeats {
+
+        private final LongAdder     count       = new LongAdder();
+        private final AtomicInteger reasonSlots = new AtomicInteger();
+        private final Queue<String> reasons     = new ConcurrentLinkedQueue<>();
+
+        private void add(String reason) {
+            count.increment();
+            if (reasonSlots.get() < MAX_REPEAT_REASONS && reasonSlots.getAndIncrement() < MAX_REPEAT_REASONS) {
+                reasons.add(reason);
+            }
+        }
+
+        @Override
+        public String toString() {
+            long repeatCount = count.sum();
+            StringJoiner text = new StringJoiner(", ", String.format("%n  repeated %d times, at: ", repeatCount), "");
+            reasons.forEach(text::add);
+            long unreferenced = repeatCount - Math.min(repeatCount, MAX_REPEAT_REASONS);
+            if (unreferenced > 0) {
+                text.add(String.format("and %d more", unreferenced));
+            }
+            return text.toString();
+        }
+    }
+
+    /**
+     * @return the first frame outside of the {@link ErrorCollector}, which called this method
+     */
+    static StackTraceElement callerFrame() {
+        return STACK_WALKER.walk(frames -> frames
+                        .dropWhile(frame -> !COLLECTOR.equals(frame.getClassName()))
+                        .dropWhile(frame -> COLLECTOR.equals(frame.getClassName()))
+                        .findFirst())
+                .map(StackWalker.StackFrame::toStackTraceElement)
+                .orElse(null);
+    }
+}
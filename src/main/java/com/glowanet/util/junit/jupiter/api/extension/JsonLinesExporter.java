@@ -0,0 +1,111 @@
+package com.glowanet.util.junit.jupiter.api.extension;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+/**
+ * Writes errors as JSON Lines, one object per error and line, e.g.
+ * <pre>
+ * {"index":0,"type":"java.lang.AssertionError","message":"Expected: <1>\n     but: was <2>","location":"a.bTest.testC(bTest.java:42)"}
+ * </pre>
+ * Every error is written directly to the writer, so the whole report is never held in memory.
+ * The {@code location} is the first element of the stack trace, or {@code null}.
+ * A record of a stackless check is written like its assertion error, without creating it.
+ *
+ * @see ErrorCollector#exportErrors(Writer)
+ * @since 5.0.0
+ */
+final class JsonLinesExporter {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Writer writer;
+    private       long   index;
+
+    /**
+     * @param writer the target, which should be buffered
+     */
+    JsonLinesExporter(Writer writer) {
+        this.writer = writer;
+    }
+
+    /**
+     * @param error the error to write as one line
+     *
+     * @throws UncheckedIOException if the error can not be written
+     */
+    void write(Throwable error) {
+        try {
+            writer.write("{\"index\":");
+            writer.write(Long.toString(index++));
+            writer.write(",\"type\":");
+            writeString((error instanceof FailureRecord ? AssertionError.class : error.getClass()).getName());
+            writer.write(",\"message\":");
+            writeString(error.getMessage());
+            writer.write(",\"location\":");
+            writeString(locationOf(error));
+            writer.write("}\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return how many errors are written
+     */
+    long getCount() {
+        return index;
+    }
+
+    private static String locationOf(Throwable error) {
+        if (error instanceof FailureRecord) {
+            return ((FailureRecord) error).getCaller().map(StackTraceElement::toString).orElse(null);
+        }
+        StackTraceElement[] stackTrace = error.getStackTrace();
+        return stackTrace.length > 0 ? stackTrace[0].toString() : null;
+    }
+
+    private void writeString(String value) throws IOException {
+        if (value == null) {
+            writer.write("null");
+            return;
+        }
+        writer.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                writer.write(value, start, i - start);
+                writeEscaped(c);
+                start = i + 1;
+            }
+        }
+        writer.write(value, start, value.length() - start);
+        writer.write('"');
+    }
+
+    private void writeEscaped(char c) throws IOException {
+        switch (c) {
+            case '"':
+                writer.write("\\\"");
+                break;
+            case '\\':
+                writer.write("\\\\");
+                break;
+            case '\n':
+                writer.write("\\n");
+                break;
+            case '\r':
+                writer.write("\\r");
+                break;
+            case '\t':
+                writer.write("\\t");
+                break;
+            default:
+                writer.write("\\u00");
+                writer.write(HEX[c >> 4]);
+                writer.write(HEX[c & 0xF]);
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.glowanet.util.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+
+/**
+ * Read and write access to a single field, resolved once into {@link MethodHandle}s.
+ * <p>
+ * Static fields ignore the instance argument, like {@link Field#get(Object)} does.
+ * The typed getters and setters, e.g. {@link #getInt(Object)} and {@link #setInt(Object, int)}, do not box the value of a primitive field.
+ * Accessors are cached per field, so use {@link #of(Field)} instead of building new ones.
+ *
+ * @see ReflectionHelper#readField(Field, Object)
+ * @see ReflectionHelper#writeField(Field, Object, Object)
+ * @since 5.0.0
+ */
+public final class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Field        field;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+    private final MethodHandle intGetter;
+    private final MethodHandle longGetter;
+    private final MethodHandle doubleGetter;
+    private final MethodHandle booleanGetter;
+    private final MethodHandle intSetter;
+    private final MethodHandle longSetter;
+    private final MethodHandle doubleSetter;
+    private final MethodHandle booleanSetter;
+
+    private FieldAccessor(final Field field) {
+        this.field = field;
+        field.trySetAccessible();
+        final MethodHandle rawGetter = resolveGetter(field);
+        this.getter = rawGetter.asType(GETTER_TYPE);
+        final MethodHandle rawSetter = resolveSetter(field);
+        this.setter = rawSetter.asType(SETTER_TYPE);
+        final boolean primitive = field.getType().isPrimitive();
+        this.intGetter = primitive ? typedGetter(rawGetter, int.class) : null;
+        this.longGetter = primitive ? typedGetter(rawGetter, long.class) : null;
+        this.doubleGetter = primitive ? typedGetter(rawGetter, double.class) : null;
+        this.booleanGetter = primitive ? typedGetter(rawGetter, boolean.class) : null;
+        this.intSetter = primitive ? typedSetter(rawSetter, int.class) : null;
+        this.longSetter = primitive ? typedSetter(rawSetter, long.class) : null;
+        this.doubleSetter = primitive ? typedSetter(rawSetter, double.class) : null;
+        this.booleanSetter = primitive ? typedSetter(rawSetter, boolean.class) : null;
+    }
+
+    /**
+     * @param field an instantiated object of type field
+     *
+     * @return the cached accessor of {@code field}
+     */
+    public static FieldAccessor of(final Field field) {
+        return ReflectionMetadata.of(field.getDeclaringClass()).accessor(field);
+    }
+
+    /**
+     * Only used by {@link ReflectionMetadata}, which caches the result.
+     *
+     * @param field an instantiated object of type field
+     *
+     * @return a new accessor
+     */
+    static FieldAccessor create(final Field field) {
+        return new FieldAccessor(field);
+    }
+
+    /**
+     * @return the field of this accessor
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * @return the getter of type {@code (Object)Object}, e.g. to combine it with other method handles
+     */
+    public MethodHandle getterHandle() {
+        return getter;
+    }
+
+    /**
+     * @param instance the instance to look in
+     *
+     * @return the current value
+     *
+     * @throws ClassCastException   when {@code instance} is not of the declaring type
+     * @throws NullPointerException when {@code instance} is null and the field is not static
+     */
+    public Object get(final Object instance) {
+        try {
+            return (Object) getter.invokeExact(instance);
+        } catch (final Throwable e) { //NOSONAR java:S1181
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * @param instance the instance to look in
+     * @param newValue the new value to set
+     *
+     * @throws ClassCastException   when {@code instance} or {@code newValue} has the wrong type
+     * @throws NullPointerException when {@code instance} is null and the field is not static, or {@code newValue} is null for a primitive field
+     */
+    public void set(final Object instance, final Object newValue) {
+        try {
+            setter.invokeExact(instance, newValue);
+        } catch (final Throwable e) { //NOSONAR java:S1181
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * @param instance the instance to look in
+     *
+     * @return the current value
+     *
+     * @throws IllegalArgumentException when the field can not be converted to {@code int}
+     */
+    public int getInt(final Object instance) {
+        try {
+            return (int) typed(intGetter, int.class).invokeExact(instance);
+        } catch (final Throwable e) { //NOSONAR java:S1181
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * @param instance the instance to look in
+     *
+     * @return the current value
+     *
+     * @throws IllegalArgumentException when the field can not be converted to {@code long}
+     */
+    public long getLong(final Object instance) {
+        try {
+            return (long) typed(longGetter, long.class).invokeExact(instance);
+        } catch (final Throwable e) { //NOSONAR java:S1181
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * @param instance the instance to look in
+     *
+     * @return the current value
+     *
+     * @throws IllegalArgumentException when the field can not be converted to {@code double}
+     */
+    public double getDouble(final Object instance) {
+        try {
+            return (double) typed(doubleGetter, double.class).invokeExact(instance);
+        } catch (final Throwable e) { //NOSONAR java:S1181
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * @param instance the instance to look in
+     *
+     * @return the current value
+     *
+     * @throws IllegalArgumentException when the field is not a {@code boolean}
+     */
+    public boolean getBoolean(final Object instance) {
+        try {
+            return (boolean) typed(booleanGetter, boolean.class).invokeExact(instance);
+        } catch (final Throwable e) { //NOSONAR java:S1181
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * @param instance the instance to look in
+     * @param newValue the new value to set
+     *
+     * @throws IllegalArgumentException when {@code int} can not be converted to the field
+     */
+    public void setInt(final Object instance, final int newValue) {
+        try {
+            typedSet(intSetter, int.class).invokeExact(instance, newValue);
+        } catch (final Throwable e) { //NOSONAR java:S1181
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * @param instance the instance to look in
+     * @param newValue the new value to set
+     *
+     * @throws IllegalArgumentException when {@code long} can not be converted to the field
+     */
+    public void setLong(final Object instance, final long newValue) {
+        try {
+            typedSet(longSetter, long.class).invokeExact(instance, newValue);
+        } catch (final Throwable e) { //NOSONAR java:S1181
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * @param instance the instance to look in
+     * @param newValue the new value to set
+     *
+     * @throws IllegalArgumentException when {@code double} can not be converted to the field
+     */
+    public void setDouble(final Object instance, final double newValue) {
+        try {
+            typedSet(doubleSetter, double.class).invokeExact(instance, newValue);
+        } catch (final Throwable e) { //NOSONAR java:S1181
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * @param instance the instance to look in
+     * @param newValue the new value to set
+     *
+     * @throws IllegalArgumentException when the field is not a {@code boolean}
+     */
+    public void setBoolean(final Object instance, final boolean newValue) {
+        try {
+            typedSet(booleanSetter, boolean.class).invokeExact(instance, newValue);
+        } catch (final Throwable e) { //NOSONAR java:S1181
+            throw rethrow(e);
+        }
+    }
+
+    private MethodHandle typed(final MethodHandle typedGetter, final Class<?> primitiveType) {
+        if (typedGetter == null) {
+            throw new IllegalArgumentException(String.format("Can't convert '%s' to %s", field, primitiveType));
+        }
+        return typedGetter;
+    }
+
+    private MethodHandle typedSet(final MethodHandle typedSetter, final Class<?> primitiveType) {
+        if (typedSetter == null) {
+            throw new IllegalArgumentException(String.format("Can't convert %s to '%s'", primitiveType, field));
+        }
+        return typedSetter;
+    }
+
+    /**
+     * @param field an accessible field
+     *
+     * @return a getter of type {@code (Object)fieldType}
+     */
+    private static MethodHandle resolveGetter(final Field field) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflectGetter(field);
+        } catch (final IllegalAccessException e) { //NOSONAR java:S1166
+            // not accessible, so let Field#get report the problem on every access
+            handle = bindToField(field, "get", GETTER_TYPE);
+        }
+        if (Modifier.isStatic(field.getModifiers()) && handle.type().parameterCount() == 0) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asType(handle.type().changeParameterType(0, Object.class));
+    }
+
+    /**
+     * @param field an accessible field
+     *
+     * @return a setter of type {@code (Object,fieldType)void}
+     */
+    private static MethodHandle resolveSetter(final Field field) {
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflectSetter(field);
+        } catch (final IllegalAccessException e) { //NOSONAR java:S1166
+            // final or not accessible, so let Field#set report the problem on every access
+            handle = bindToField(field, "set", SETTER_TYPE);
+        }
+        if (Modifier.isStatic(field.getModifiers()) && handle.type().parameterCount() == 1) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle;
+    }
+
+    private static MethodHandle bindToField(final Field field, final String methodName, final MethodType methodType) {
+        try {
+            return MethodHandles.lookup().findVirtual(Field.class, methodName, methodType).bindTo(field);
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static MethodHandle typedGetter(final MethodHandle rawGetter, final Class<?> primitiveType) {
+        try {
+            return rawGetter.asType(MethodType.methodType(primitiveType, Object.class));
+        } catch (final WrongMethodTypeException e) { //NOSONAR java:S1166
+            return null;
+        }
+    }
+
+    private static MethodHandle typedSetter(final MethodHandle rawSetter, final Class<?> primitiveType) {
+        try {
+            return rawSetter.asType(MethodType.methodType(void.class, Object.class, primitiveType));
+        } catch (final WrongMethodTypeException e) { //NOSONAR java:S1166
+            return null;
+        }
+    }
+
+    private static RuntimeException rethrow(final Throwable throwable) {
+        if (throwable instanceof RuntimeException) {
+            return (RuntimeException) throwable;
+        }
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        return new IllegalArgumentException(throwable);
+    }
+}
@@ -0,0 +1,75 @@
+package com.glowanet.util.reflect;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+/**
+ * Compiles a getter into a {@link Function}, so it can be called like a direct method call.
+ * <p>
+ * The function is generated with the {@link LambdaMetafactory}. When the declaring clazz is not open for deep reflection,
+ * e.g. a JDK clazz, a plain {@link MethodHandle} is used instead.
+ * Exceptions of the getter are passed through unchanged, checked exceptions included.
+ *
+ * @since 5.0.0
+ */
+final class GetterInvoker {
+
+    private static final MethodType FUNCTION_FACTORY = MethodType.methodType(Function.class);
+    private static final MethodType FUNCTION_APPLY   = MethodType.methodType(Object.class, Object.class);
+
+    private GetterInvoker() {
+        // static helper
+    }
+
+    /**
+     * @param readMethod a getter without parameters
+     *
+     * @return a function, which calls the {@code readMethod} on its argument
+     *
+     * @throws IllegalArgumentException when {@code readMethod} is not an accessible instance getter
+     */
+    @SuppressWarnings("unchecked")
+    static Function<Object, Object> compile(final Method readMethod) {
+        if (Modifier.isStatic(readMethod.getModifiers()) || readMethod.getParameterCount() != 0) {
+            throw new IllegalArgumentException(String.format("'%s' is not a getter", readMethod));
+        }
+        try {
+            final MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(readMethod.getDeclaringClass(), MethodHandles.lookup());
+            final MethodHandle target = lookup.unreflect(readMethod);
+            final CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply", FUNCTION_FACTORY, FUNCTION_APPLY, target,
+                    target.type().wrap());
+            return (Function<Object, Object>) callSite.getTarget().invokeExact();
+        } catch (final Throwable e) { //NOSONAR java:S1166,java:S1181
+            // no private access or no lambda possible, the slower way still works
+            return compileHandle(readMethod);
+        }
+    }
+
+    private static Function<Object, Object> compileHandle(final Method readMethod) {
+        final MethodHandle handle;
+        try {
+            readMethod.trySetAccessible();
+            handle = MethodHandles.lookup().unreflect(readMethod).asType(FUNCTION_APPLY);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+        return instance -> {
+            try {
+                return (Object) handle.invokeExact(instance);
+            } catch (final Throwable e) { //NOSONAR java:S1181
+                throw GetterInvoker.<RuntimeException>sneakyThrow(e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Throwable> T sneakyThrow(final Throwable throwable) throws T {
+        throw (T) throwable;
+    }
+}
@@ -14,9 +14,11 @@ import java.io.Serializable;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -42,15 +44,7 @@ public class ReflectionHelper {
         if (instance == null) {
             failure(null, null, null);
         } else {
-            final BeanInfo beanInfo = handleGetBeanInfo(instance.getClass(), Object.class);
-            if (beanInfo != null) {
-                final PropertyDescriptor[] props = beanInfo.getPropertyDescriptors();
-                for (final PropertyDescriptor pd : props) {
-                    if (pd.getReadMethod() != null) {
-                        getterList.add(pd);
-                    }
-                }
-            }
+            getterList.addAll(ReflectionMetadata.of(instance.getClass()).getters());
         }
         return getterList;
     }
@@ -103,11 +97,7 @@ public class ReflectionHelper {
      */
     public static Field findField(final String fieldName, final Class<?> instanceClazz) {
         isInstanceSet(instanceClazz, fieldName);
-        final Field idField = handleGetField(fieldName, instanceClazz);
-        if (idField != null) {
-            makeFieldAccessible(idField, null);
-        }
-        return idField;
+        return ReflectionMetadata.of(instanceClazz).field(fieldName);
     }
 
     /**
@@ -138,9 +128,8 @@ public class ReflectionHelper {
         isParamSet(instanceClazz, field);
         V fieldValue = null;
         try {
-            makeFieldAccessible(field, null);
-            fieldValue = (V) field.get(instanceClazz);
-        } catch (final IllegalAccessException | IllegalArgumentException e) {
+            fieldValue = (V) FieldAccessor.of(field).get(instanceClazz);
+        } catch (final RuntimeException e) {
             failure(instanceClazz, field, e);
         }
         return fieldValue;
@@ -174,9 +163,8 @@ public class ReflectionHelper {
         isParamSet(instance, field);
         V fieldValue = null;
         try {
-            makeFieldAccessible(field, instance);
-            fieldValue = (V) field.get(instance);
-        } catch (final IllegalArgumentException | IllegalAccessException e) {
+            fieldValue = (V) FieldAccessor.of(field).get(instance);
+        } catch (final RuntimeException e) {
             failure(instance == null ? null : instance.getClass(), field, e);
         }
         return fieldValue;
@@ -206,9 +194,8 @@ public class ReflectionHelper {
         isInstanceSet(instance, field);
         isParamSet(instance, field);
         try {
-            makeFieldAccessible(field, instance);
-            field.set(instance, newValue);
-        } catch (final IllegalArgumentException | IllegalAccessException e) {
+            FieldAccessor.of(field).set(instance, newValue);
+        } catch (final RuntimeException e) {
             failure(instance == null ? null : instance.getClass(), field, e);
         }
     }
@@ -373,6 +360,20 @@ public class ReflectionHelper {
         return handleInvokeMethod(getter, instance);
     }
 
+    /**
+     * Compiles a getter once into a function, for repeated calls on many instances.
+     * Exceptions of the getter are passed through unchanged, checked exceptions included.
+     *
+     * @param readMethod a getter without parameters
+     *
+     * @return the cached function, which calls {@code readMethod} on its argument
+     *
+     * @throws IllegalArgumentException when {@code readMethod} is not an instance getter
+     */
+    public static Function<Object, Object> compileGetter(final Method readMethod) {
+        return ReflectionMetadata.of(readMethod.getDeclaringClass()).getterInvoker(readMethod);
+    }
+
     /**
      * @param typeClazz      the clazz of the new instance
      * @param parameterTypes the clazzes of the parameters
@@ -409,13 +410,35 @@ public class ReflectionHelper {
     static <V> V handleInvokeMethod(final PropertyDescriptor propertyDescriptor, final Object instance) throws AssertionError {
         V value = null;
         try {
-            value = (V) MethodUtils.invokeMethod(instance, propertyDescriptor.getReadMethod().getName());
+            final Method readMethod = propertyDescriptor.getReadMethod();
+            if (readMethod.getDeclaringClass().isInstance(instance)) {
+                value = (V) invokeGetter(readMethod, instance);
+            } else {
+                value = (V) MethodUtils.invokeMethod(instance, readMethod.getName());
+            }
         } catch (final NullPointerException | IllegalArgumentException | NoSuchMethodException | IllegalAccessException | InvocationTargetException e) {
             failure((instance == null ? null : instance.getClass()), (propertyDescriptor == null ? null : propertyDescriptor.getName()), e);
         }
         return value;
     }
 
+    /**
+     * @param readMethod a getter of {@code instance}
+     * @param instance   an instance of the declaring type of {@code readMethod}
+     *
+     * @return the return value of the {@code readMethod}
+     *
+     * @throws InvocationTargetException when the {@code readMethod} itself throws an exception
+     */
+    @SuppressWarnings("java:S2221")
+    private static Object invokeGetter(final Method readMethod, final Object instance) throws InvocationTargetException {
+        try {
+            return ReflectionMetadata.of(readMethod.getDeclaringClass()).getterInvoker(readMethod).apply(instance);
+        } catch (final Exception e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
     /**
      * @param fieldName     the name of a field
      * @param instanceClazz the type of the instance
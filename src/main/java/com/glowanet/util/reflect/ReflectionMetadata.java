@@ -0,0 +1,132 @@
+package com.glowanet.util.reflect;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Per clazz cache of the resolved reflection information, used by {@link ReflectionHelper}.
+ * <p>
+ * The metadata is attached to the clazz itself with a {@link ClassValue}, so it lives exactly as long as the clazz
+ * and does not prevent its classloader from being unloaded.
+ *
+ * @since 5.0.0
+ */
+final class ReflectionMetadata {
+
+    private static final ClassValue<ReflectionMetadata> METADATA = new ClassValue<>() {
+        @Override
+        protected ReflectionMetadata computeValue(final Class<?> type) {
+            return new ReflectionMetadata(type);
+        }
+    };
+
+    private final Class<?>                     type;
+    private final Map<String, Optional<Field>> fields    = new ConcurrentHashMap<>();
+    private final Map<String, FieldAccessor>   accessors = new ConcurrentHashMap<>();
+
+    private final Map<Method, Function<Object, Object>> getterInvokers = new ConcurrentHashMap<>();
+
+    private volatile List<PropertyDescriptor> propertyDescriptors;
+    private volatile List<PropertyDescriptor> getters;
+
+    private ReflectionMetadata(final Class<?> type) {
+        this.type = type;
+    }
+
+    /**
+     * @param type the type of the instance
+     *
+     * @return the metadata of {@code type}
+     */
+    static ReflectionMetadata of(final Class<?> type) {
+        return METADATA.get(type);
+    }
+
+    /**
+     * Resolves a field once and remembers the result, also when the field does not exist.
+     *
+     * @param fieldName the name of a field
+     *
+     * @return the found field-object or null
+     *
+     * @throws AssertionError when {@code fieldName} can not be accessed
+     */
+    Field field(final String fieldName) throws AssertionError {
+        if (fieldName == null) {
+            return ReflectionHelper.handleGetField(null, type);
+        }
+        Optional<Field> field = fields.get(fieldName);
+        if (field == null) {
+            final Field found = ReflectionHelper.handleGetField(fieldName, type);
+            if (found != null) {
+                found.trySetAccessible();
+            }
+            field = Optional.ofNullable(found);
+            fields.putIfAbsent(fieldName, field);
+        }
+        return field.orElse(null);
+    }
+
+    /**
+     * @param field a field declared by the type
+     *
+     * @return the accessor of {@code field}, resolved once
+     */
+    FieldAccessor accessor(final Field field) {
+        return accessors.computeIfAbsent(field.getName(), name -> FieldAccessor.create(field));
+    }
+
+    /**
+     * @param readMethod a getter declared by the type
+     *
+     * @return the compiled invoker of {@code readMethod}, compiled once
+     *
+     * @see GetterInvoker
+     */
+    Function<Object, Object> getterInvoker(final Method readMethod) {
+        return getterInvokers.computeIfAbsent(readMethod, GetterInvoker::compile);
+    }
+
+    /**
+     * @return all property descriptors of the type, up to {@link Object}
+     *
+     * @throws AssertionError when the type can not be introspected
+     */
+    List<PropertyDescriptor> propertyDescriptors() throws AssertionError {
+        List<PropertyDescriptor> result = propertyDescriptors;
+        if (result == null) {
+            final PropertyDescriptor[] descriptors = ReflectionHelper.handleGetBeanInfo(type, Object.class).getPropertyDescriptors();
+            result = List.of(descriptors);
+            propertyDescriptors = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return all property descriptors of the type, which have a getter
+     *
+     * @throws AssertionError when the type can not be introspected
+     */
+    List<PropertyDescriptor> getters() throws AssertionError {
+        List<PropertyDescriptor> result = getters;
+        if (result == null) {
+            final List<PropertyDescriptor> getterList = new ArrayList<>();
+            for (final PropertyDescriptor pd : propertyDescriptors()) {
+                if (pd.getReadMethod() != null) {
+                    getterList.add(pd);
+                }
+            }
+            result = Collections.unmodifiableList(getterList);
+            getters = result;
+        }
+        return result;
+    }
+}
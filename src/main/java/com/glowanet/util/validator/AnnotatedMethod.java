@@ -0,0 +1,93 @@
+package com.glowanet.util.validator;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+/**
+ * A method with runtime visible annotations, as it is found in a class file by the {@link AnnotationScanner}.
+ * <p>
+ * The clazz of the method is not loaded, so the clazz and the annotations are only known by their binary names.
+ *
+ * @author Oliver Glowa
+ * @since 5.0.0
+ */
+public final class AnnotatedMethod {
+
+    private final String      className;
+    private final String      methodName;
+    private final String      descriptor;
+    private final Set<String> annotationNames;
+
+    /**
+     * @param className       the binary name of the clazz, which declares the method
+     * @param methodName      the name of the method
+     * @param descriptor      the descriptor of the method, e.g. {@code "(Ljava/lang/String;)V"}
+     * @param annotationNames the binary names of the annotations of the method
+     */
+    AnnotatedMethod(String className, String methodName, String descriptor, Set<String> annotationNames) {
+        this.className = className;
+        this.methodName = methodName;
+        this.descriptor = descriptor;
+        this.annotationNames = Set.copyOf(annotationNames);
+    }
+
+    /**
+     * @return the binary name of the clazz, which declares the method
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return the name of the package of the clazz, which declares the method
+     */
+    public String getPackageName() {
+        int lastDot = className.lastIndexOf('.');
+        return lastDot < 0 ? "" : className.substring(0, lastDot);
+    }
+
+    /**
+     * @return the name of the method
+     */
+    public String getMethodName() {
+        return methodName;
+    }
+
+    /**
+     * @return the descriptor of the method, e.g. {@code "(Ljava/lang/String;)V"}
+     */
+    public String getDescriptor() {
+        return descriptor;
+    }
+
+    /**
+     * @return the binary names of the annotations of the method
+     */
+    public Set<String> getAnnotationNames() {
+        return annotationNames;
+    }
+
+    /**
+     * @param annotationClazz the type of an annotation
+     *
+     * @return TRUE=the method has the annotation {@code annotationClazz}, else FALSE
+     */
+    public boolean hasAnnotation(Class<? extends Annotation> annotationClazz) {
+        return annotationNames.contains(annotationClazz.getName());
+    }
+
+    /**
+     * @param packageName the name of a package
+     *
+     * @return TRUE=the clazz of the method is in {@code packageName} or one of its sub packages, else FALSE
+     */
+    public boolean isInPackage(String packageName) {
+        return packageName.isEmpty() || className.startsWith(packageName)
+                && (className.length() == packageName.length() || className.charAt(packageName.length()) == '.');
+    }
+
+    @Override
+    public String toString() {
+        return className + "#" + methodName + descriptor;
+    }
+}
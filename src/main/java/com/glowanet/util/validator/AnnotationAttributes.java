@@ -0,0 +1,180 @@
+package com.glowanet.util.validator;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Per annotation type reader of its attributes (elements), used by {@link AnnotationParameterValidator}.
+ * <p>
+ * Every attribute is read through a {@link MethodHandle}, which is resolved once per annotation type and kept in a {@link ClassValue}.
+ * The value of an attribute is compared by its type, see {@link #isEqual(Object, Object)}, so the annotation is never rendered as text.
+ *
+ * @since 5.0.0
+ */
+final class AnnotationAttributes {
+
+    private static final ClassValue<AnnotationAttributes> ATTRIBUTES = new ClassValue<>() {
+        @Override
+        protected AnnotationAttributes computeValue(final Class<?> type) {
+            return new AnnotationAttributes(type);
+        }
+    };
+
+    private static final MethodType ATTRIBUTE_TYPE = MethodType.methodType(Object.class, Annotation.class);
+
+    private final Map<String, MethodHandle> readers;
+
+    private AnnotationAttributes(Class<?> annotationType) {
+        this.readers = readersOf(annotationType);
+    }
+
+    /**
+     * @param annotationClazz the type of an annotation
+     *
+     * @return the attributes of {@code annotationClazz}
+     */
+    static AnnotationAttributes of(Class<? extends Annotation> annotationClazz) {
+        return ATTRIBUTES.get(annotationClazz);
+    }
+
+    /**
+     * @param name the name of an attribute
+     *
+     * @return TRUE=the annotation type has the attribute {@code name}, else FALSE
+     */
+    boolean has(String name) {
+        return readers.containsKey(name);
+    }
+
+    /**
+     * @param annotation an annotation of this type
+     * @param name       the name of an attribute
+     *
+     * @return the value of the attribute {@code name}, or null if there is no such attribute
+     */
+    Object value(Annotation annotation, String name) {
+        MethodHandle reader = readers.get(name);
+        if (reader == null) {
+            return null;
+        }
+        try {
+            return (Object) reader.invokeExact(annotation);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) { //NOSONAR java:S1181
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Compares the value of an attribute with an expected value by its type.
+     * <ul>
+     * <li>arrays are equal to arrays and collections with equal elements, and a single element array to its element</li>
+     * <li>enums are equal to the same constant or its name</li>
+     * <li>classes are equal to the same clazz or its name or canonical name</li>
+     * <li>numbers are equal to numbers with the same value, regardless of their type</li>
+     * <li>nested annotations are equal to an equal annotation</li>
+     * <li>any other value is equal to an equal value or its text</li>
+     * </ul>
+     *
+     * @param actual   the value of an attribute
+     * @param expected the expected value
+     *
+     * @return TRUE=the values are equal, else FALSE
+     */
+    static boolean isEqual(Object actual, Object expected) {
+        if (actual == null || expected == null) {
+            return actual == expected;
+        }
+        if (actual.getClass().isArray()) {
+            return isArrayEqual(actual, expected);
+        }
+        if (actual instanceof Enum) {
+            return actual.equals(expected) || expected instanceof CharSequence && ((Enum<?>) actual).name().contentEquals((CharSequence) expected);
+        }
+        if (actual instanceof Class) {
+            return actual.equals(expected) || expected instanceof CharSequence && isClassName((Class<?>) actual, expected.toString());
+        }
+        if (actual instanceof Number && expected instanceof Number) {
+            return isNumberEqual((Number) actual, (Number) expected);
+        }
+        if (actual instanceof Annotation) {
+            return actual.equals(expected);
+        }
+        return actual.equals(expected) || expected instanceof CharSequence && actual.toString().contentEquals((CharSequence) expected);
+    }
+
+    private static boolean isArrayEqual(Object actual, Object expected) {
+        int length = Array.getLength(actual);
+        if (expected.getClass().isArray()) {
+            if (actual.getClass() == expected.getClass() && actual.getClass().getComponentType().isPrimitive()) {
+                return Objects.deepEquals(actual, expected);
+            }
+            if (length != Array.getLength(expected)) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (!isEqual(Array.get(actual, i), Array.get(expected, i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (expected instanceof Collection) {
+            Collection<?> expectedElements = (Collection<?>) expected;
+            if (length != expectedElements.size()) {
+                return false;
+            }
+            Iterator<?> expectedElement = expectedElements.iterator();
+            for (int i = 0; i < length; i++) {
+                if (!isEqual(Array.get(actual, i), expectedElement.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return length == 1 && isEqual(Array.get(actual, 0), expected);
+    }
+
+    private static boolean isClassName(Class<?> actual, String expected) {
+        return actual.getName().equals(expected) || expected.equals(actual.getCanonicalName());
+    }
+
+    private static boolean isNumberEqual(Number actual, Number expected) {
+        if (actual instanceof Double || actual instanceof Float || expected instanceof Double || expected instanceof Float) {
+            return Double.compare(actual.doubleValue(), expected.doubleValue()) == 0;
+        }
+        return actual.longValue() == expected.longValue();
+    }
+
+    @SuppressWarnings("java:S1166")
+    private static Map<String, MethodHandle> readersOf(Class<?> annotationType) {
+        if (!annotationType.isAnnotation()) {
+            return Map.of();
+        }
+        Method[] elements = annotationType.getDeclaredMethods();
+        Map<String, MethodHandle> readers = new HashMap<>(elements.length * 2);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (Method element : elements) {
+            if (element.getParameterCount() == 0 && !Modifier.isStatic(element.getModifiers())) {
+                try {
+                    element.trySetAccessible();
+                    readers.put(element.getName(), lookup.unreflect(element).asType(ATTRIBUTE_TYPE));
+                } catch (IllegalAccessException e) {
+                    // the annotation type is not accessible, so the attribute can not be read
+                }
+            }
+        }
+        return readers;
+    }
+}
@@ -0,0 +1,141 @@
+package com.glowanet.util.validator;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per clazz index of the annotations of its declared methods, used by {@link AnnotationParameterValidator}.
+ * <p>
+ * The index is built once from {@link Class#getDeclaredMethods()} and maps the signature of every method
+ * and the type of every annotation to the annotation itself. A method or an annotation, which does not exist,
+ * is just not in the index, so a miss costs a hash lookup instead of a thrown {@link NoSuchMethodException}.
+ * The methods are also indexed by their name, to find all overloads of a method.
+ * The index is attached to the clazz with a {@link ClassValue}, so it does not prevent its classloader from being unloaded.
+ *
+ * @since 5.0.0
+ */
+final class AnnotationIndex {
+
+    private static final ClassValue<AnnotationIndex> INDEX = new ClassValue<>() {
+        @Override
+        protected AnnotationIndex computeValue(final Class<?> type) {
+            return new AnnotationIndex(type);
+        }
+    };
+
+    private static final Class<?>[] NO_PARAMS = {};
+
+    private static final Comparator<Method> OVERLOAD_ORDER = Comparator.comparingInt(Method::getParameterCount)
+            .thenComparing(method -> signatureOf(method.getName(), method.getParameterTypes()));
+
+    private final Map<String, Map<Class<? extends Annotation>, Annotation>> annotations = new HashMap<>();
+    private final Map<String, List<Method>>                                 overloads   = new HashMap<>();
+
+    private AnnotationIndex(Class<?> type) {
+        index(type);
+    }
+
+    /**
+     * @param type a type
+     *
+     * @return the index of {@code type}
+     */
+    static AnnotationIndex of(Class<?> type) {
+        return INDEX.get(type);
+    }
+
+    /**
+     * @param methodName      the name of a method without parameters
+     * @param annotationClazz the type of the annotation at {@code methodName}
+     * @param <T>             a type of {@link Annotation}
+     *
+     * @return the annotation or null, if the method or the annotation does not exist
+     */
+    <T extends Annotation> T annotation(String methodName, Class<T> annotationClazz) {
+        return annotation(methodName, NO_PARAMS, annotationClazz);
+    }
+
+    /**
+     * @param methodName      the name of a method
+     * @param parameterTypes  the types of the parameters of {@code methodName}
+     * @param annotationClazz the type of the annotation at {@code methodName}
+     * @param <T>             a type of {@link Annotation}
+     *
+     * @return the annotation or null, if the method or the annotation does not exist
+     */
+    <T extends Annotation> T annotation(String methodName, Class<?>[] parameterTypes, Class<T> annotationClazz) {
+        Map<Class<? extends Annotation>, Annotation> methodAnnotations = annotations.get(signatureOf(methodName, parameterTypes));
+        return methodAnnotations == null ? null : annotationClazz.cast(methodAnnotations.get(annotationClazz));
+    }
+
+    /**
+     * @param methodName the name of a method
+     *
+     * @return all declared methods with the name {@code methodName}, the method without parameters first
+     */
+    List<Method> overloads(String methodName) {
+        return overloads.getOrDefault(methodName, List.of());
+    }
+
+    /**
+     * @param methodName     the name of a method
+     * @param parameterTypes the types of the parameters of {@code methodName}
+     *
+     * @return the signature, e.g. {@code "getCheese(java.lang.String,int)"}
+     */
+    static String signatureOf(String methodName, Class<?>[] parameterTypes) {
+        StringBuilder signature = new StringBuilder(methodName).append('(');
+        for (int i = 0; i < parameterTypes.length; i++) {
+            if (i > 0) {
+                signature.append(',');
+            }
+            signature.append(parameterTypes[i].getName());
+        }
+        return signature.append(')').toString();
+    }
+
+    @SuppressWarnings("java:S1166")
+    private void index(Class<?> type) {
+        Method[] methods;
+        try {
+            methods = type.getDeclaredMethods();
+        } catch (SecurityException e) {
+            // the methods are not accessible, so no annotation can be found
+            return;
+        }
+        Map<String, Method> indexed = new HashMap<>(methods.length * 2);
+        for (Method method : methods) {
+            String signature = signatureOf(method.getName(), method.getParameterTypes());
+            Method previous = indexed.get(signature);
+            // like getDeclaredMethod, a covariant override wins over its bridge method
+            if (previous == null || previous.getReturnType().isAssignableFrom(method.getReturnType())) {
+                indexed.put(signature, method);
+                annotations.put(signature, annotationsOf(method));
+            }
+        }
+        for (Method method : indexed.values()) {
+            overloads.computeIfAbsent(method.getName(), name -> new ArrayList<>(1)).add(method);
+        }
+        overloads.replaceAll((name, namedMethods) -> {
+            namedMethods.sort(OVERLOAD_ORDER);
+            return List.copyOf(namedMethods);
+        });
+    }
+
+    private static Map<Class<? extends Annotation>, Annotation> annotationsOf(Method method) {
+        Annotation[] declared = method.getDeclaredAnnotations();
+        if (declared.length == 0) {
+            return Map.of();
+        }
+        Map<Class<? extends Annotation>, Annotation> byType = new HashMap<>(declared.length * 2);
+        for (Annotation annotation : declared) {
+            byType.put(annotation.annotationType(), annotation);
+        }
+        return byType;
+    }
+}
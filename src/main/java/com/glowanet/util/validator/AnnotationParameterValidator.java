@@ -1,7 +1,6 @@
 package com.glowanet.util.validator;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Method;
 
 /**
  * Verifies if an annotation has a specific parameter and parameter-value.
@@ -12,8 +11,6 @@ import java.lang.reflect.Method;
  */
 public class AnnotationParameterValidator {
 
-    private final Class<?>[] noparams = {};
-
     /**
      * @param clazz           a type
      * @param methodName      the name of the method in {@code clazz}
@@ -33,6 +30,9 @@ public class AnnotationParameterValidator {
     }
 
     /**
+     * The value of the parameter is read from the annotation and compared by its type,
+     * e.g. an enum with the same constant or its name, an array with an array or a collection with equal elements.
+     *
      * @param clazz                    a type
      * @param methodName               the name of the method in {@code clazz}
      * @param annotationClazz          the type of the annotation at {@code methodName}
@@ -40,39 +40,39 @@ public class AnnotationParameterValidator {
      * @param annotationParameterValue the value of the parameter of the annotation
      *
      * @return TRUE=the {@code annotationParameterKey} and {@code annotationParameterValue} is found, else FALSE
+     *
+     * @see AnnotationAttributes#isEqual(Object, Object)
      */
     public boolean isAnnotationParameter(Class<?> clazz, String methodName, Class<? extends Annotation> annotationClazz, String annotationParameterKey,
-                                         String annotationParameterValue) {
+                                         Object annotationParameterValue) {
         boolean isAnnotationParameter = false;
 
         Annotation annotation2t = getAnnotation(clazz, methodName, annotationClazz);
         if (annotation2t != null && annotationParameterKey != null && annotationParameterKey.length() > 0) {
-            String annotationUsing = annotationParameterKey + "=" + annotationParameterValue;
-            String actualString = annotation2t.toString();
-            isAnnotationParameter = actualString.contains(annotationUsing);
+            AnnotationAttributes attributes = AnnotationAttributes.of(annotationClazz);
+            isAnnotationParameter = attributes.has(annotationParameterKey)
+                    && AnnotationAttributes.isEqual(attributes.value(annotation2t, annotationParameterKey), annotationParameterValue);
         }
         return isAnnotationParameter;
     }
 
     /**
+     * The annotation is also found at a method of a superclass or an interface, at an overload of the method,
+     * and as meta-annotation of another annotation. The result is resolved only once.
+     *
      * @param clazz           a type
      * @param methodName      the name of the method in {@code clazz}
      * @param annotationClazz the type of the annotation at {@code methodName}
      * @param <T>             a type of {@link Annotation}
      *
      * @return an {@code Annotation} or null
+     *
+     * @see AnnotationResolver
      */
-    @SuppressWarnings({"MultiCatchCanBeSplit", "java:S1166", "java:S1696"})
     <T extends Annotation> Annotation getAnnotation(Class<?> clazz, String methodName, Class<T> annotationClazz) {
-        Method method2t;
-        T annotation2t = null;
-        try {
-            method2t = clazz.getDeclaredMethod(methodName, noparams);
-            annotation2t = method2t.getDeclaredAnnotation(annotationClazz);
-        } catch (NullPointerException | NoSuchMethodException | SecurityException e) {
-            // exceptions can be ignored, nothing must be done
+        if (clazz == null || methodName == null || annotationClazz == null) {
+            return null;
         }
-
-        return annotation2t;
+        return AnnotationResolver.resolve(clazz, methodName, annotationClazz);
     }
 }
@@ -0,0 +1,137 @@
+package com.glowanet.util.validator;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the annotation of a method, including inherited methods, overloads and meta-annotations, used by {@link AnnotationParameterValidator}.
+ * <p>
+ * The methods with the name are searched in the clazz, its superclasses and then its interfaces, breadth first.
+ * Private methods of the supertypes are skipped, because they are not inherited.
+ * Of every type, the method without parameters is searched first, followed by its overloads.
+ * At every method, the annotation itself is searched first, followed by the annotations of its annotations,
+ * e.g. a composed annotation, which is annotated with the annotation.
+ * <p>
+ * The result, also when nothing is found, is kept per (clazz, method, annotation) in nested {@link ClassValue}s:
+ * the one of the clazz only holds a {@link ClassValue} of the annotation, which keeps the results per method.
+ * So neither the clazz nor the annotation type pins the classloader of the other one,
+ * and a repeated lookup only costs three hash lookups.
+ *
+ * @see AnnotationIndex
+ * @since 5.0.0
+ */
+final class AnnotationResolver {
+
+    private static final ClassValue<ClassValue<Map<String, Optional<Annotation>>>> RESOLVED = new ClassValue<>() {
+        @Override
+        protected ClassValue<Map<String, Optional<Annotation>>> computeValue(final Class<?> type) {
+            return new ClassValue<>() {
+                @Override
+                protected Map<String, Optional<Annotation>> computeValue(final Class<?> annotationType) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+        }
+    };
+
+    private AnnotationResolver() {
+        // static helper
+    }
+
+    /**
+     * @param clazz           a type
+     * @param methodName      the name of the method in {@code clazz} or one of its supertypes
+     * @param annotationClazz the type of the annotation at {@code methodName}
+     * @param <T>             a type of {@link Annotation}
+     *
+     * @return the annotation, or null if none is found
+     */
+    static <T extends Annotation> T resolve(Class<?> clazz, String methodName, Class<T> annotationClazz) {
+        Optional<Annotation> resolved = RESOLVED.get(clazz).get(annotationClazz)
+                .computeIfAbsent(methodName, name -> Optional.ofNullable(search(clazz, name, annotationClazz)));
+        return annotationClazz.cast(resolved.orElse(null));
+    }
+
+    private static <T extends Annotation> T search(Class<?> clazz, String methodName, Class<T> annotationClazz) {
+        T found = AnnotationIndex.of(clazz).annotation(methodName, annotationClazz);
+        if (found != null) {
+            return found;
+        }
+        for (Class<?> type : hierarchyOf(clazz)) {
+            for (Method method : AnnotationIndex.of(type).overloads(methodName)) {
+                if (type == clazz || !Modifier.isPrivate(method.getModifiers())) {
+                    found = annotationOf(method, annotationClazz);
+                    if (found != null) {
+                        return found;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param clazz a type
+     *
+     * @return {@code clazz}, its superclasses and then all its interfaces, breadth first
+     */
+    static List<Class<?>> hierarchyOf(Class<?> clazz) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> type = clazz; type != null; type = type.getSuperclass()) {
+            hierarchy.add(type);
+        }
+        Set<Class<?>> visited = new HashSet<>(hierarchy);
+        Deque<Class<?>> pending = new ArrayDeque<>(hierarchy);
+        while (!pending.isEmpty()) {
+            for (Class<?> anInterface : pending.poll().getInterfaces()) {
+                if (visited.add(anInterface)) {
+                    hierarchy.add(anInterface);
+                    pending.add(anInterface);
+                }
+            }
+        }
+        return hierarchy;
+    }
+
+    /**
+     * @param method          a method
+     * @param annotationClazz the type of the annotation
+     * @param <T>             a type of {@link Annotation}
+     *
+     * @return the annotation of {@code method} or of one of its annotations, or null
+     */
+    private static <T extends Annotation> T annotationOf(Method method, Class<T> annotationClazz) {
+        T found = method.getDeclaredAnnotation(annotationClazz);
+        if (found == null) {
+            found = metaAnnotationOf(method.getDeclaredAnnotations(), annotationClazz, new HashSet<>());
+        }
+        return found;
+    }
+
+    private static <T extends Annotation> T metaAnnotationOf(Annotation[] annotations, Class<T> annotationClazz,
+                                                             Set<Class<? extends Annotation>> visited) {
+        for (Annotation annotation : annotations) {
+            Class<? extends Annotation> annotationType = annotation.annotationType();
+            if (visited.add(annotationType)) {
+                T found = annotationType.getDeclaredAnnotation(annotationClazz);
+                if (found == null) {
+                    found = metaAnnotationOf(annotationType.getDeclaredAnnotations(), annotationClazz, visited);
+                }
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+}
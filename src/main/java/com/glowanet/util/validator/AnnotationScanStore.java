@@ -0,0 +1,179 @@
+package com.glowanet.util.validator;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The index of an {@link AnnotationScanner}, persisted in a file, so repeated runs only parse the class files, which have changed.
+ * <p>
+ * The index holds one entry per source, i.e. a class file or a jar, with its time of last modification, its size and its annotations.
+ * A file which can not be read, e.g. because it was written by another version, is treated as an empty index.
+ *
+ * @since 5.0.0
+ */
+final class AnnotationScanStore {
+
+    private static final int FORMAT = 0x41495801;
+
+    private AnnotationScanStore() {
+        // static helper
+    }
+
+    /**
+     * @param indexFile the file of the index
+     *
+     * @return the entries of the index by their source, empty if {@code indexFile} does not exist or can not be read
+     */
+    @SuppressWarnings("java:S1166")
+    static Map<String, Source> read(Path indexFile) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != FORMAT) {
+                return new HashMap<>();
+            }
+            int sourceCount = in.readInt();
+            Map<String, Source> sources = new HashMap<>(sourceCount * 2);
+            for (int i = 0; i < sourceCount; i++) {
+                String key = in.readUTF();
+                long lastModified = in.readLong();
+                long size = in.readLong();
+                int classCount = in.readInt();
+                List<ClassFileAnnotations> classes = new ArrayList<>(classCount);
+                for (int j = 0; j < classCount; j++) {
+                    classes.add(readClass(in));
+                }
+                sources.put(key, new Source(lastModified, size, classes));
+            }
+            return sources;
+        } catch (IOException | RuntimeException e) {
+            // a missing, outdated or broken index is built again
+            return new HashMap<>();
+        }
+    }
+
+    /**
+     * Writes the index into a temporary file first, which replaces {@code indexFile} afterwards.
+     *
+     * @param indexFile the file of the index
+     * @param sources   the entries of the index by their source
+     *
+     * @throws UncheckedIOException if the index can not be written
+     */
+    static void write(Path indexFile, Map<String, Source> sources) {
+        try {
+            Path directory = indexFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, indexFile.getFileName().toString(), ".tmp");
+            try {
+                writeSources(tempFile, sources);
+                Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeSources(Path file, Map<String, Source> sources) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(FORMAT);
+            out.writeInt(sources.size());
+            for (Map.Entry<String, Source> entry : sources.entrySet()) {
+                Source source = entry.getValue();
+                out.writeUTF(entry.getKey());
+                out.writeLong(source.lastModified);
+                out.writeLong(source.size);
+                out.writeInt(source.classes.size());
+                for (ClassFileAnnotations classAnnotations : source.classes) {
+                    writeClass(out, classAnnotations);
+                }
+            }
+        }
+    }
+
+    private static ClassFileAnnotations readClass(DataInputStream in) throws IOException {
+        String className = in.readUTF();
+        Set<String> classAnnotations = readNames(in);
+        int methodCount = in.readInt();
+        List<AnnotatedMethod> methods = new ArrayList<>(methodCount);
+        for (int i = 0; i < methodCount; i++) {
+            methods.add(new AnnotatedMethod(className, in.readUTF(), in.readUTF(), readNames(in)));
+        }
+        return new ClassFileAnnotations(className, classAnnotations, methods);
+    }
+
+    private static void writeClass(DataOutputStream out, ClassFileAnnotations classAnnotations) throws IOException {
+        out.writeUTF(classAnnotations.getClassName());
+        writeNames(out, classAnnotations.getClassAnnotations());
+        out.writeInt(classAnnotations.getMethods().size());
+        for (AnnotatedMethod method : classAnnotations.getMethods()) {
+            out.writeUTF(method.getMethodName());
+            out.writeUTF(method.getDescriptor());
+            writeNames(out, method.getAnnotationNames());
+        }
+    }
+
+    private static Set<String> readNames(DataInputStream in) throws IOException {
+        int nameCount = in.readInt();
+        Set<String> names = new LinkedHashSet<>(nameCount * 2);
+        for (int i = 0; i < nameCount; i++) {
+            names.add(in.readUTF());
+        }
+        return names;
+    }
+
+    private static void writeNames(DataOutputStream out, Set<String> names) throws IOException {
+        out.writeInt(names.size());
+        for (String name : names) {
+            out.writeUTF(name);
+        }
+    }
+
+    /**
+     * A scanned class file or jar.
+     */
+    static final class Source {
+
+        private final long                       lastModified;
+        private final long                       size;
+        private final List<ClassFileAnnotations> classes;
+
+        /**
+         * @param lastModified the time of the last modification of the source, in milliseconds
+         * @param size         the size of the source in bytes
+         * @param classes      the annotated classes in the source
+         */
+        Source(long lastModified, long size, List<ClassFileAnnotations> classes) {
+            this.lastModified = lastModified;
+            this.size = size;
+            this.classes = List.copyOf(classes);
+        }
+
+        /**
+         * @param otherLastModified the current time of the last modification of the source
+         * @param otherSize         the current size of the source
+         *
+         * @return TRUE=the source has not changed since it was scanned, else FALSE
+         */
+        boolean isUpToDate(long otherLastModified, long otherSize) {
+            return lastModified == otherLastModified && size == otherSize;
+        }
+
+        List<ClassFileAnnotations> getClasses() {
+            return classes;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package com.glowanet.util.validator;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.nio.ByteBuffer;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Scans directories and jars for the runtime visible annotations of classes and their methods, without loading the classes.
+ * <p>
+ * The class files are read through NIO and only their constant pool and annotations are parsed.
+ * The result is kept in an index file, if one is given. A repeated scan only parses the class files and jars,
+ * which have changed since the index was written, and takes all others from the index.
+ * <p>
+ * For example, to verify that every {@code Transactional} method in {@code com.glowanet.service} is also {@code Timed}:
+ * <pre>
+ * assertThat(AnnotationScanner.scanClasspath(Paths.get("target/annotation-index.bin")),
+ *         everyAnnotatedMethodHas("com.glowanet.service", Transactional.class, Timed.class));
+ * </pre>
+ *
+ * @author Oliver Glowa
+ * @see org.hamcrest.AnnotationMatchers#everyAnnotatedMethodHas(String, Class, Class)
+ * @since 5.0.0
+ */
+public final class AnnotationScanner {
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+    private static final String JAR_SUFFIX        = ".jar";
+    private static final String ZIP_SUFFIX        = ".zip";
+    private static final String MODULE_INFO       = "module-info.class";
+    private static final String META_INF          = "META-INF";
+
+    private final List<ClassFileAnnotations> classes;
+    private final int                        parsedCount;
+    private final int                        reusedCount;
+
+    private AnnotationScanner(List<ClassFileAnnotations> classes, int parsedCount, int reusedCount) {
+        this.classes = classes;
+        this.parsedCount = parsedCount;
+        this.reusedCount = reusedCount;
+    }
+
+    /**
+     * Scans the directories and jars of the {@code java.class.path}.
+     *
+     * @param indexFile the file to keep the index in, or null to scan without an index
+     *
+     * @return the scanner with the annotations found
+     *
+     * @throws UncheckedIOException if a class file can not be read or the index can not be written
+     */
+    public static AnnotationScanner scanClasspath(Path indexFile) {
+        List<Path> roots = Arrays.stream(System.getProperty("java.class.path", "").split(File.pathSeparator))
+                .filter(entry -> !entry.isEmpty())
+                .map(Paths::get)
+                .collect(Collectors.toList());
+        return scan(indexFile, roots);
+    }
+
+    /**
+     * @param indexFile the file to keep the index in, or null to scan without an index
+     * @param roots     the directories and jars to scan, those which do not exist are ignored
+     *
+     * @return the scanner with the annotations found
+     *
+     * @throws UncheckedIOException if a class file can not be read or the index can not be written
+     */
+    public static AnnotationScanner scan(Path indexFile, Collection<Path> roots) {
+        Map<String, AnnotationScanStore.Source> previous = indexFile == null ? Map.of() : AnnotationScanStore.read(indexFile);
+        Scan scan = new Scan(previous);
+        for (Path root : roots) {
+            scan.root(root.toAbsolutePath().normalize());
+        }
+        if (indexFile != null && scan.isChanged()) {
+            AnnotationScanStore.write(indexFile, scan.sources);
+        }
+        List<ClassFileAnnotations> classes = new ArrayList<>();
+        scan.sources.values().forEach(source -> classes.addAll(source.getClasses()));
+        return new AnnotationScanner(List.copyOf(classes), scan.parsedCount, scan.reusedCount);
+    }
+
+    /**
+     * @return all methods with at least one runtime visible annotation
+     */
+    public Stream<AnnotatedMethod> methods() {
+        return classes.stream().flatMap(classAnnotations -> classAnnotations.getMethods().stream());
+    }
+
+    /**
+     * @param annotationClazz the type of an annotation
+     *
+     * @return all methods with the annotation {@code annotationClazz}
+     */
+    public Stream<AnnotatedMethod> methodsAnnotatedWith(Class<? extends Annotation> annotationClazz) {
+        return methods().filter(method -> method.hasAnnotation(annotationClazz));
+    }
+
+    /**
+     * @param annotationClazz the type of an annotation
+     *
+     * @return the binary names of all classes with the annotation {@code annotationClazz}
+     */
+    public Stream<String> classesAnnotatedWith(Class<? extends Annotation> annotationClazz) {
+        String annotationName = annotationClazz.getName();
+        return classes.stream()
+                .filter(classAnnotations -> classAnnotations.getClassAnnotations().contains(annotationName))
+                .map(ClassFileAnnotations::getClassName);
+    }
+
+    /**
+     * @return how many class files and jars were parsed, because they were not in the index or have changed
+     */
+    public int getParsedCount() {
+        return parsedCount;
+    }
+
+    /**
+     * @return how many class files and jars were taken unchanged from the index
+     */
+    public int getReusedCount() {
+        return reusedCount;
+    }
+
+    /**
+     * The state of one scan.
+     */
+    private static final class Scan {
+
+        private final Map<String, AnnotationScanStore.Source> previous;
+        private final Map<String, AnnotationScanStore.Source> sources = new LinkedHashMap<>();
+        private       int                                     parsedCount;
+        private       int                                     reusedCount;
+
+        private Scan(Map<String, AnnotationScanStore.Source> previous) {
+            this.previous = previous;
+        }
+
+        /**
+         * @return TRUE=the index must be written again, else FALSE
+         */
+        private boolean isChanged() {
+            return parsedCount > 0 || !previous.keySet().equals(sources.keySet());
+        }
+
+        private void root(Path root) {
+            try {
+                if (Files.isDirectory(root)) {
+                    Files.walkFileTree(root, new SimpleFileVisitor<>() {
+                        @Override
+                        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                            if (isClassFile(file)) {
+                                source(file, attrs, () -> parseClassFile(file));
+                            }
+                            return FileVisitResult.CONTINUE;
+                        }
+                    });
+                } else if (isJar(root) && Files.isRegularFile(root)) {
+                    source(root, Files.readAttributes(root, BasicFileAttributes.class), () -> parseJar(root));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void source(Path path, BasicFileAttributes attrs, SourceParser parser) throws IOException {
+            String key = path.toString();
+            long lastModified = attrs.lastModifiedTime().toMillis();
+            AnnotationScanStore.Source source = previous.get(key);
+            if (source != null && source.isUpToDate(lastModified, attrs.size())) {
+                reusedCount++;
+            } else {
+                source = new AnnotationScanStore.Source(lastModified, attrs.size(), parser.parse());
+                parsedCount++;
+            }
+            sources.put(key, source);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SourceParser {
+
+        List<ClassFileAnnotations> parse() throws IOException;
+    }
+
+    private static boolean isJar(Path file) {
+        String fileName = String.valueOf(file.getFileName());
+        return fileName.endsWith(JAR_SUFFIX) || fileName.endsWith(ZIP_SUFFIX);
+    }
+
+    private static boolean isClassFile(Path file) {
+        String fileName = String.valueOf(file.getFileName());
+        return fileName.endsWith(CLASS_FILE_SUFFIX) && !MODULE_INFO.equals(fileName);
+    }
+
+    private static List<ClassFileAnnotations> parseClassFile(Path classFile) throws IOException {
+        List<ClassFileAnnotations> parsed = new ArrayList<>(1);
+        addParsed(parsed, classFile);
+        return parsed;
+    }
+
+    private static List<ClassFileAnnotations> parseJar(Path jar) throws IOException {
+        List<ClassFileAnnotations> parsed = new ArrayList<>();
+        try (FileSystem jarFileSystem = FileSystems.newFileSystem(jar)) {
+            for (Path jarRoot : jarFileSystem.getRootDirectories()) {
+                Files.walkFileTree(jarRoot, new SimpleFileVisitor<>() {
+                    @Override
+                    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                        // e.g. the versioned classes of a multi-release jar
+                        return META_INF.equals(String.valueOf(dir.getFileName())) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+                    }
+
+                    @Override
+                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                        if (isClassFile(file)) {
+                            addParsed(parsed, file);
+                        }
+                        return FileVisitResult.CONTINUE;
+                    }
+                });
+            }
+        }
+        return parsed;
+    }
+
+    @SuppressWarnings("java:S1166")
+    private static void addParsed(List<ClassFileAnnotations> parsed, Path classFile) throws IOException {
+        try {
+            ClassFileAnnotations classAnnotations = ClassFileParser.parse(ByteBuffer.wrap(Files.readAllBytes(classFile)));
+            if (!classAnnotations.isEmpty()) {
+                parsed.add(classAnnotations);
+            }
+        } catch (IllegalArgumentException e) {
+            // not a valid class file, so there is no clazz
+        }
+    }
+}
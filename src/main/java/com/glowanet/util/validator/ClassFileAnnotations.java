@@ -0,0 +1,47 @@
+package com.glowanet.util.validator;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The runtime visible annotations of a clazz and its methods, as they are found in its class file.
+ *
+ * @see AnnotationScanner
+ * @since 5.0.0
+ */
+final class ClassFileAnnotations {
+
+    private final String                className;
+    private final Set<String>           classAnnotations;
+    private final List<AnnotatedMethod> methods;
+
+    /**
+     * @param className        the binary name of the clazz
+     * @param classAnnotations the binary names of the annotations of the clazz
+     * @param methods          the methods of the clazz with at least one annotation
+     */
+    ClassFileAnnotations(String className, Set<String> classAnnotations, List<AnnotatedMethod> methods) {
+        this.className = className;
+        this.classAnnotations = Set.copyOf(classAnnotations);
+        this.methods = List.copyOf(methods);
+    }
+
+    String getClassName() {
+        return className;
+    }
+
+    Set<String> getClassAnnotations() {
+        return classAnnotations;
+    }
+
+    List<AnnotatedMethod> getMethods() {
+        return methods;
+    }
+
+    /**
+     * @return TRUE=neither the clazz nor one of its methods has an annotation, else FALSE
+     */
+    boolean isEmpty() {
+        return classAnnotations.isEmpty() && methods.isEmpty();
+    }
+}
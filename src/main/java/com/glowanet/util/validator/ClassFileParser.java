@@ -0,0 +1,277 @@
+package com.glowanet.util.validator;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads the runtime visible annotations of a clazz and its methods directly from its class file, without loading the clazz.
+ * <p>
+ * Only the constant pool, the methods and the {@code RuntimeVisibleAnnotations} attributes are parsed,
+ * everything else, e.g. the code of the methods, is skipped.
+ *
+ * @see <a href="https://docs.oracle.com/javase/specs/jvms/se17/html/jvms-4.html">The class File Format</a>
+ * @since 5.0.0
+ */
+final class ClassFileParser {
+
+    static final String INVALID_CLASS_FILE = "expected a class file, but %s";
+
+    private static final int    MAGIC                       = 0xCAFEBABE;
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private static final int CONSTANT_UTF8                = 1;
+    private static final int CONSTANT_INTEGER             = 3;
+    private static final int CONSTANT_FLOAT               = 4;
+    private static final int CONSTANT_LONG                = 5;
+    private static final int CONSTANT_DOUBLE              = 6;
+    private static final int CONSTANT_CLASS               = 7;
+    private static final int CONSTANT_STRING              = 8;
+    private static final int CONSTANT_FIELDREF            = 9;
+    private static final int CONSTANT_METHODREF           = 10;
+    private static final int CONSTANT_INTERFACE_METHODREF = 11;
+    private static final int CONSTANT_NAME_AND_TYPE       = 12;
+    private static final int CONSTANT_METHOD_HANDLE       = 15;
+    private static final int CONSTANT_METHOD_TYPE         = 16;
+    private static final int CONSTANT_DYNAMIC             = 17;
+    private static final int CONSTANT_INVOKE_DYNAMIC      = 18;
+    private static final int CONSTANT_MODULE              = 19;
+    private static final int CONSTANT_PACKAGE             = 20;
+
+    private final ByteBuffer buffer;
+    private final int[]      offsets;
+    private final String[]   strings;
+
+    private ClassFileParser(ByteBuffer buffer, int constantCount) {
+        this.buffer = buffer;
+        this.offsets = new int[constantCount];
+        this.strings = new String[constantCount];
+    }
+
+    /**
+     * @param classFile the content of a class file
+     *
+     * @return the annotations of the clazz and its methods
+     *
+     * @throws IllegalArgumentException if {@code classFile} is not a valid class file
+     */
+    static ClassFileAnnotations parse(ByteBuffer classFile) {
+        try {
+            if (classFile.getInt() != MAGIC) {
+                throw new IllegalArgumentException(String.format(INVALID_CLASS_FILE, "the magic number is missing"));
+            }
+            classFile.getInt(); // minor and major version
+            ClassFileParser parser = new ClassFileParser(classFile, classFile.getShort() & 0xFFFF);
+            return parser.parseClass();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException(String.format(INVALID_CLASS_FILE, "it is truncated"), e);
+        }
+    }
+
+    private ClassFileAnnotations parseClass() {
+        readConstantPool();
+        buffer.getShort(); // access flags
+        String className = classNameAt(u2());
+        buffer.getShort(); // super class
+        skip(2 * u2()); // interfaces
+        skipMembers(); // fields
+        List<AnnotatedMethod> methods = readMethods(className);
+        Set<String> classAnnotations = readAnnotationsOf(u2());
+        return new ClassFileAnnotations(className, classAnnotations, methods);
+    }
+
+    private void readConstantPool() {
+        for (int i = 1; i < offsets.length; i++) {
+            int tag = buffer.get() & 0xFF;
+            offsets[i] = buffer.position();
+            switch (tag) {
+                case CONSTANT_UTF8:
+                    skip(u2());
+                    break;
+                case CONSTANT_CLASS:
+                case CONSTANT_STRING:
+                case CONSTANT_METHOD_TYPE:
+                case CONSTANT_MODULE:
+                case CONSTANT_PACKAGE:
+                    skip(2);
+                    break;
+                case CONSTANT_METHOD_HANDLE:
+                    skip(3);
+                    break;
+                case CONSTANT_INTEGER:
+                case CONSTANT_FLOAT:
+                case CONSTANT_FIELDREF:
+                case CONSTANT_METHODREF:
+                case CONSTANT_INTERFACE_METHODREF:
+                case CONSTANT_NAME_AND_TYPE:
+                case CONSTANT_DYNAMIC:
+                case CONSTANT_INVOKE_DYNAMIC:
+                    skip(4);
+                    break;
+                case CONSTANT_LONG:
+                case CONSTANT_DOUBLE:
+                    // takes two entries of the constant pool
+                    skip(8);
+                    i++;
+                    break;
+                default:
+                    throw new IllegalArgumentException(String.format(INVALID_CLASS_FILE, "it has an unknown constant " + tag));
+            }
+        }
+    }
+
+    private List<AnnotatedMethod> readMethods(String className) {
+        int methodCount = u2();
+        List<AnnotatedMethod> methods = new ArrayList<>();
+        for (int i = 0; i < methodCount; i++) {
+            buffer.getShort(); // access flags
+            int nameIndex = u2();
+            int descriptorIndex = u2();
+            Set<String> annotations = readAnnotationsOf(u2());
+            if (!annotations.isEmpty()) {
+                methods.add(new AnnotatedMethod(className, utf8At(nameIndex), utf8At(descriptorIndex), annotations));
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * @param attributeCount the number of attributes, which follow
+     *
+     * @return the binary names of the runtime visible annotations in these attributes
+     */
+    private Set<String> readAnnotationsOf(int attributeCount) {
+        Set<String> annotations = Set.of();
+        for (int i = 0; i < attributeCount; i++) {
+            String attributeName = utf8At(u2());
+            int length = buffer.getInt();
+            if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+                int end = buffer.position() + length;
+                int annotationCount = u2();
+                annotations = new LinkedHashSet<>(annotationCount * 2);
+                for (int j = 0; j < annotationCount; j++) {
+                    annotations.add(readAnnotation());
+                }
+                skipTo(end);
+            } else {
+                skip(length);
+            }
+        }
+        return annotations;
+    }
+
+    /**
+     * @return the binary name of the annotation, its values are skipped
+     */
+    private String readAnnotation() {
+        String descriptor = utf8At(u2());
+        int pairCount = u2();
+        for (int i = 0; i < pairCount; i++) {
+            buffer.getShort(); // element name
+            skipElementValue();
+        }
+        return binaryNameOf(descriptor);
+    }
+
+    private void skipElementValue() {
+        int tag = buffer.get() & 0xFF;
+        switch (tag) {
+            case 'e':
+                skip(4);
+                break;
+            case '@':
+                readAnnotation();
+                break;
+            case '[':
+                skipElementValues(u2());
+                break;
+            default:
+                // B C D F I J S Z s c refer to the constant pool
+                skip(2);
+        }
+    }
+
+    private void skipElementValues(int valueCount) {
+        for (int i = 0; i < valueCount; i++) {
+            skipElementValue();
+        }
+    }
+
+    private void skipMembers() {
+        int memberCount = u2();
+        for (int i = 0; i < memberCount; i++) {
+            skip(6); // access flags, name and descriptor
+            int attributeCount = u2();
+            for (int j = 0; j < attributeCount; j++) {
+                buffer.getShort(); // attribute name
+                skip(buffer.getInt());
+            }
+        }
+    }
+
+    private String classNameAt(int index) {
+        return utf8At(buffer.getShort(offsets[index]) & 0xFFFF).replace('/', '.');
+    }
+
+    private String utf8At(int index) {
+        String value = strings[index];
+        if (value == null) {
+            value = decodeUtf8(offsets[index]);
+            strings[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * @param offset the offset of the length of a modified UTF-8 constant
+     *
+     * @return the decoded constant
+     */
+    private String decodeUtf8(int offset) {
+        int length = buffer.getShort(offset) & 0xFFFF;
+        int position = offset + 2;
+        int end = position + length;
+        StringBuilder value = new StringBuilder(length);
+        while (position < end) {
+            int c = buffer.get(position++) & 0xFF;
+            if (c < 0x80) {
+                value.append((char) c);
+            } else if (c < 0xE0) {
+                value.append((char) ((c & 0x1F) << 6 | buffer.get(position++) & 0x3F));
+            } else {
+                value.append((char) ((c & 0x0F) << 12 | (buffer.get(position++) & 0x3F) << 6 | buffer.get(position++) & 0x3F));
+            }
+        }
+        return value.toString();
+    }
+
+    /**
+     * @param descriptor a field descriptor, e.g. {@code "Lcom/glowanet/Cheese$Annotation;"}
+     *
+     * @return the binary name, e.g. {@code "com.glowanet.Cheese$Annotation"}
+     */
+    static String binaryNameOf(String descriptor) {
+        if (descriptor.length() > 2 && descriptor.charAt(0) == 'L' && descriptor.charAt(descriptor.length() - 1) == ';') {
+            return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+        }
+        return descriptor;
+    }
+
+    private int u2() {
+        return buffer.getShort() & 0xFFFF;
+    }
+
+    private void skip(int length) {
+        skipTo(buffer.position() + length);
+    }
+
+    private void skipTo(int position) {
+        if (position > buffer.limit()) {
+            throw new BufferUnderflowException();
+        }
+        buffer.position(position);
+    }
+}
@@ -16,14 +16,19 @@ public class EasyMockMatcher {
     }
 
     /**
+     * Expects an argument with the same primary-id as {@code expectedInstance}.
+     * <p>
+     * For example, with a composite key and a path to the id of a referenced object:
+     * <pre>mock.save(eqPrimaryId(expectedItem, "position", "order.customer.id"))</pre>
+     *
      * @param expectedInstance an instance of the expected type
-     * @param primIdFieldName  the field name which is used as primary-id.
+     * @param primIdFieldNames the field names or paths, e.g. {@code "order.customer.id"}, which are used as primary-id.
      * @param <T>              type of the method argument to match
      *
      * @return {@code null}.
      */
-    public static <T> T eqPrimaryId(final T expectedInstance, final String primIdFieldName) {
-        EasyMock.reportMatcher(new PrimaryId<>(expectedInstance, primIdFieldName));
+    public static <T> T eqPrimaryId(final T expectedInstance, final String... primIdFieldNames) {
+        EasyMock.reportMatcher(new PrimaryId<>(expectedInstance, primIdFieldNames));
         return null;
     }
 }
@@ -0,0 +1,187 @@
+package org.easymock.internal.matchers;
+
+import com.glowanet.util.reflect.FieldAccessor;
+import com.glowanet.util.reflect.ReflectionHelper;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads a key of an instance, given by a path like {@code "order.customer.id"}, used by {@link PrimaryId}.
+ * <p>
+ * Every segment of the path is a field, or if there is no such field, a getter ({@code getId()}, {@code isId()} or {@code id()})
+ * of the type of the previous segment. The path is compiled once per clazz into a single chain of {@link MethodHandle}s,
+ * which returns null, as soon as a segment is null.
+ *
+ * @since 5.0.0
+ */
+final class KeyExtractor {
+
+    static final String UNKNOWN_KEY = "Can't find or access '%s#%s' !";
+
+    private static final ClassValue<Map<String, KeyExtractor>> EXTRACTORS = new ClassValue<>() {
+        @Override
+        protected Map<String, KeyExtractor> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final MethodType   KEY_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodHandle IS_NULL;
+    private static final MethodHandle NULL_KEY = MethodHandles.dropArguments(MethodHandles.constant(Object.class, null), 0, Object.class);
+
+    static {
+        try {
+            IS_NULL = MethodHandles.lookup().findStatic(Objects.class, "isNull", MethodType.methodType(boolean.class, Object.class));
+        } catch (final NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final String       path;
+    private final String       description;
+    private final MethodHandle extractor;
+
+    private KeyExtractor(final String path, final String description, final MethodHandle extractor) {
+        this.path = path;
+        this.description = description;
+        this.extractor = extractor;
+    }
+
+    /**
+     * @param rootClazz the type of the instances
+     * @param path      the path of the key, e.g. {@code "order.customer.id"}
+     *
+     * @return the cached extractor of {@code path}
+     *
+     * @throws AssertionError when a segment of {@code path} can not be found
+     */
+    static KeyExtractor of(final Class<?> rootClazz, final String path) throws AssertionError {
+        if (path == null || path.isEmpty()) {
+            throw new AssertionError(String.format(UNKNOWN_KEY, rootClazz.getName(), "NULL"));
+        }
+        return EXTRACTORS.get(rootClazz).computeIfAbsent(path, key -> compile(rootClazz, key));
+    }
+
+    /**
+     * @return the path of the key
+     */
+    String getPath() {
+        return path;
+    }
+
+    /**
+     * @return the fields and getters of the path
+     */
+    String getDescription() {
+        return description;
+    }
+
+    /**
+     * @param instance an instance of the type
+     *
+     * @return the key of {@code instance}, or null if a segment of the path is null
+     */
+    Object extract(final Object instance) {
+        try {
+            return (Object) extractor.invokeExact(instance);
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) { //NOSONAR java:S1181
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static KeyExtractor compile(final Class<?> rootClazz, final String path) {
+        MethodHandle chain = null;
+        final StringJoiner description = new StringJoiner(" -> ");
+        Class<?> type = rootClazz;
+        for (final String segment : path.split("\\.")) {
+            final Member member = findMember(type, segment);
+            if (member == null) {
+                throw new AssertionError(String.format(UNKNOWN_KEY, type.getName(), segment));
+            }
+            description.add(member.toString());
+            final MethodHandle step;
+            if (member instanceof Field) {
+                step = FieldAccessor.of((Field) member).getterHandle();
+                type = ((Field) member).getType();
+            } else {
+                step = getterHandle((Method) member);
+                type = ((Method) member).getReturnType();
+            }
+            chain = chain == null ? step : MethodHandles.filterReturnValue(chain, nullSafe(step));
+        }
+        return new KeyExtractor(path, description.toString(), chain);
+    }
+
+    /**
+     * @param step a step of type {@code (Object)Object}
+     *
+     * @return the step, which returns null for null
+     */
+    private static MethodHandle nullSafe(final MethodHandle step) {
+        return MethodHandles.guardWithTest(IS_NULL, NULL_KEY, step);
+    }
+
+    private static Member findMember(final Class<?> type, final String segment) {
+        if (segment.isEmpty()) {
+            return null;
+        }
+        final Field field = type.isPrimitive() || type.isArray() ? null : ReflectionHelper.findField(segment, type);
+        if (field != null) {
+            return field;
+        }
+        final String capitalized = Character.toUpperCase(segment.charAt(0)) + segment.substring(1);
+        for (final String getterName : new String[]{"get" + capitalized, "is" + capitalized, segment}) {
+            final Method getter = findGetter(type, getterName);
+            if (getter != null) {
+                return getter;
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("java:S1166")
+    private static Method findGetter(final Class<?> type, final String getterName) {
+        for (Class<?> declaring = type; declaring != null; declaring = declaring.getSuperclass()) {
+            try {
+                final Method getter = declaring.getDeclaredMethod(getterName);
+                if (isGetter(getter)) {
+                    return getter;
+                }
+            } catch (final NoSuchMethodException e) {
+                // look in the superclass, only done once per path
+            }
+        }
+        try {
+            // e.g. a default method of an interface
+            final Method getter = type.getMethod(getterName);
+            return isGetter(getter) ? getter : null;
+        } catch (final NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static boolean isGetter(final Method method) {
+        return !Modifier.isStatic(method.getModifiers()) && method.getReturnType() != void.class;
+    }
+
+    private static MethodHandle getterHandle(final Method getter) {
+        try {
+            getter.trySetAccessible();
+            return MethodHandles.lookup().unreflect(getter).asType(KEY_TYPE);
+        } catch (final IllegalAccessException e) {
+            throw new AssertionError(String.format(UNKNOWN_KEY, getter.getDeclaringClass().getName(), getter.getName()), e);
+        }
+    }
+}
@@ -1,14 +1,17 @@
 package org.easymock.internal.matchers;
 
-import com.glowanet.util.reflect.ReflectionHelper;
 import org.easymock.IArgumentMatcher;
 import org.mockito.ArgumentMatcher;
 
-import java.lang.reflect.Field;
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.StringJoiner;
 
 /**
  * An easy-mock / hamcrest matcher to verify, if two object instances have the same primary key (id).
+ * <p>
+ * The key may be composed of several fields, and every field may be a path to a field of a referenced object,
+ * e.g. {@code "order.customer.id"}. The paths are compiled once per clazz, see {@link KeyExtractor}.
  *
  * @param <T> type of the method argument to match
  *
@@ -18,25 +21,34 @@ import java.util.Objects;
  */
 public class PrimaryId<T> implements ArgumentMatcher<T>, IArgumentMatcher {
 
-    private final T        expectedInstance;
-    private final Field    expectedField;
-    private final Class<T> expectClazz;
-    private final Object   expectedValue;
+    private final T              expectedInstance;
+    private final KeyExtractor[] expectedKeys;
+    private final Class<T>       expectClazz;
+    private final Object[]       expectedValues;
 
     /**
      * @param expectedInstance an instance of the expected type
-     * @param primIdFieldName  the field name which is used as primary-id.
+     * @param primIdFieldNames the field names or paths, e.g. {@code "order.customer.id"}, which are used as primary-id, at least one.
+     *
+     * @throws AssertionError when no field name is given, or a field name can not be found
      */
-    public PrimaryId(final T expectedInstance, final String primIdFieldName) {
+    public PrimaryId(final T expectedInstance, final String... primIdFieldNames) {
         this.expectedInstance = expectedInstance;
         if (expectedInstance != null) {
             this.expectClazz = (Class<T>) expectedInstance.getClass();
-            this.expectedField = ReflectionHelper.findField(primIdFieldName, expectedInstance);
-            this.expectedValue = ReflectionHelper.readField(expectedField, expectedInstance);
+            if (primIdFieldNames == null || primIdFieldNames.length == 0) {
+                throw new AssertionError(String.format(KeyExtractor.UNKNOWN_KEY, expectClazz.getName(), "NULL"));
+            }
+            this.expectedKeys = new KeyExtractor[primIdFieldNames.length];
+            this.expectedValues = new Object[primIdFieldNames.length];
+            for (int i = 0; i < primIdFieldNames.length; i++) {
+                expectedKeys[i] = KeyExtractor.of(expectClazz, primIdFieldNames[i]);
+                expectedValues[i] = expectedKeys[i].extract(expectedInstance);
+            }
         } else {
             this.expectClazz = null;
-            this.expectedField = null;
-            this.expectedValue = null;
+            this.expectedKeys = null;
+            this.expectedValues = null;
         }
     }
 
@@ -46,8 +58,10 @@ public class PrimaryId<T> implements ArgumentMatcher<T>, IArgumentMatcher {
         if (expectedInstance == null && actual == null) {
             // nothing to do
         } else if ((expectedInstance != null && actual != null) && (expectClazz.isAssignableFrom(actual.getClass()))) {
-            final Object actualValue = ReflectionHelper.readField(expectedField, actual);
-            result = Objects.equals(actualValue, expectedValue);
+            result = true;
+            for (int i = 0; i < expectedKeys.length && result; i++) {
+                result = Objects.equals(expectedKeys[i].extract(actual), expectedValues[i]);
+            }
         } else {
             //nothing2do
         }
@@ -59,17 +73,43 @@ public class PrimaryId<T> implements ArgumentMatcher<T>, IArgumentMatcher {
      */
     public void appendTo(final StringBuffer buffer) {
         buffer.append(expectClazz == null ? "null" : expectClazz.getName());
-        buffer.append(" with ").append(expectedField == null ? "null" : expectedField.getName()).append("=<");
-        buffer.append(expectedValue).append(">");
+        buffer.append(" with ");
+        if (expectedKeys == null) {
+            buffer.append("null=<null>");
+        } else {
+            final StringJoiner keys = new StringJoiner(", ");
+            for (int i = 0; i < expectedKeys.length; i++) {
+                keys.add(expectedKeys[i].getPath() + "=<" + expectedValues[i] + ">");
+            }
+            buffer.append(keys);
+        }
     }
 
     @Override
     public String toString() {
         return "PrimaryId{" +
                 "expectClazz=" + expectClazz +
-                ", expectedField=" + expectedField +
+                ", expectedField=" + describeKeys() +
                 ", expectedInstance=" + expectedInstance +
-                ", expectedValue=" + expectedValue +
+                ", expectedValue=" + describeValues() +
                 '}';
     }
+
+    private String describeKeys() {
+        if (expectedKeys == null) {
+            return null;
+        }
+        final StringJoiner keys = new StringJoiner(", ");
+        for (final KeyExtractor key : expectedKeys) {
+            keys.add(key.getDescription());
+        }
+        return keys.toString();
+    }
+
+    private String describeValues() {
+        if (expectedValues == null) {
+            return null;
+        }
+        return expectedValues.length == 1 ? String.valueOf(expectedValues[0]) : Arrays.toString(expectedValues);
+    }
 }
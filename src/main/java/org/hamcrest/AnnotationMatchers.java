@@ -1,5 +1,6 @@
 package org.hamcrest;
 
+import org.hamcrest.annotation.EveryAnnotatedMethodHas;
 import org.hamcrest.annotation.HasMethodAnnotation;
 import org.hamcrest.annotation.HasMethodAnnotationParameter;
 
@@ -54,4 +55,22 @@ public class AnnotationMatchers {
             Object annotationParameterValue) {
         return HasMethodAnnotationParameter.hasMethodAnnotationParameter(methodName, annotationClazz, annotationParameterKey, annotationParameterValue);
     }
+
+    /**
+     * Creates a matcher that matches if every method in the package, which has the marker annotation, also has the required annotation.
+     * The methods are taken from a {@link com.glowanet.util.validator.AnnotationScanner}, so the classes are not loaded.
+     * <p>
+     * For example:
+     * <pre>assertThat(AnnotationScanner.scanClasspath(indexFile), everyAnnotatedMethodHas("com.glowanet.service", Transactional.class, Timed.class))</pre>
+     *
+     * @param packageName             the name of the package, including its sub packages, or empty for all packages
+     * @param markerAnnotationClazz   the clazz of the annotation, which marks the methods to check
+     * @param requiredAnnotationClazz the clazz of the annotation, which every marked method must have
+     *
+     * @return newly created matcher
+     */
+    public static org.hamcrest.Matcher<com.glowanet.util.validator.AnnotationScanner> everyAnnotatedMethodHas(
+            String packageName, Class<? extends Annotation> markerAnnotationClazz, Class<? extends Annotation> requiredAnnotationClazz) {
+        return EveryAnnotatedMethodHas.everyAnnotatedMethodHas(packageName, markerAnnotationClazz, requiredAnnotationClazz);
+    }
 }
@@ -1,7 +1,10 @@
 package org.hamcrest;
 
+import org.hamcrest.core.DoubleBetween;
+import org.hamcrest.core.IntBetween;
 import org.hamcrest.core.IsBetween;
 import org.hamcrest.core.IsBetweenWithBound;
+import org.hamcrest.core.LongBetween;
 
 /**
  * Contains matchers, which checks if a value is in a specific range.
@@ -75,4 +78,87 @@ public class BetweenMatcher {
         return IsBetweenWithBound.between(fromTo);
     }
 
+    /**
+     * Creates a matcher for {@code int}s that matches, if the value is between the given range.
+     * <p>
+     * Range start and end <strong>NOT</strong>included. The values are checked without boxing.
+     *
+     * @param from start value for the range
+     * @param to   end value for the range
+     *
+     * @return newly created matcher
+     */
+    public static IntBetween intBetween(int from, int to) {
+        return IntBetween.between(from, to);
+    }
+
+    /**
+     * Creates a matcher for {@code int}s that matches, if the value is between the given range.
+     * <p>
+     * Range start and end <strong>IS</strong>included. The values are checked without boxing.
+     *
+     * @param from start value for the range
+     * @param to   end value for the range
+     *
+     * @return newly created matcher
+     */
+    public static IntBetween intBetweenWithBound(int from, int to) {
+        return IntBetween.betweenWithBound(from, to);
+    }
+
+    /**
+     * Creates a matcher for {@code long}s that matches, if the value is between the given range.
+     * <p>
+     * Range start and end <strong>NOT</strong>included. The values are checked without boxing.
+     *
+     * @param from start value for the range
+     * @param to   end value for the range
+     *
+     * @return newly created matcher
+     */
+    public static LongBetween longBetween(long from, long to) {
+        return LongBetween.between(from, to);
+    }
+
+    /**
+     * Creates a matcher for {@code long}s that matches, if the value is between the given range.
+     * <p>
+     * Range start and end <strong>IS</strong>included. The values are checked without boxing.
+     *
+     * @param from start value for the range
+     * @param to   end value for the range
+     *
+     * @return newly created matcher
+     */
+    public static LongBetween longBetweenWithBound(long from, long to) {
+        return LongBetween.betweenWithBound(from, to);
+    }
+
+    /**
+     * Creates a matcher for {@code double}s that matches, if the value is between the given range.
+     * <p>
+     * Range start and end <strong>NOT</strong>included. The values are checked without boxing.
+     *
+     * @param from start value for the range
+     * @param to   end value for the range
+     *
+     * @return newly created matcher
+     */
+    public static DoubleBetween doubleBetween(double from, double to) {
+        return DoubleBetween.between(from, to);
+    }
+
+    /**
+     * Creates a matcher for {@code double}s that matches, if the value is between the given range.
+     * <p>
+     * Range start and end <strong>IS</strong>included. The values are checked without boxing.
+     *
+     * @param from start value for the range
+     * @param to   end value for the range
+     *
+     * @return newly created matcher
+     */
+    public static DoubleBetween doubleBetweenWithBound(double from, double to) {
+        return DoubleBetween.betweenWithBound(from, to);
+    }
 }
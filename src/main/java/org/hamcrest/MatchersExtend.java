@@ -77,6 +77,90 @@ public class MatchersExtend extends org.hamcrest.Matchers {
         return org.hamcrest.BetweenMatcher.betweenWithBound(fromTo);
     }
 
+    /**
+     * Creates a matcher for {@code int}s that matches, if the value is between the given range.
+     * <p>
+     * Range start and end <strong>NOT</strong>included. The values are checked without boxing.
+     *
+     * @param from start value for the range
+     * @param to   end value for the range
+     *
+     * @return newly created matcher
+     */
+    public static org.hamcrest.core.IntBetween intBetween(int from, int to) {
+        return org.hamcrest.BetweenMatcher.intBetween(from, to);
+    }
+
+    /**
+     * Creates a matcher for {@code int}s that matches, if the value is between the given range.
+     * <p>
+     * Range start and end <strong>IS</strong>included. The values are checked without boxing.
+     *
+     * @param from start value for the range
+     * @param to   end value for the range
+     *
+     * @return newly created matcher
+     */
+    public static org.hamcrest.core.IntBetween intBetweenWithBound(int from, int to) {
+        return org.hamcrest.BetweenMatcher.intBetweenWithBound(from, to);
+    }
+
+    /**
+     * Creates a matcher for {@code long}s that matches, if the value is between the given range.
+     * <p>
+     * Range start and end <strong>NOT</strong>included. The values are checked without boxing.
+     *
+     * @param from start value for the range
+     * @param to   end value for the range
+     *
+     * @return newly created matcher
+     */
+    public static org.hamcrest.core.LongBetween longBetween(long from, long to) {
+        return org.hamcrest.BetweenMatcher.longBetween(from, to);
+    }
+
+    /**
+     * Creates a matcher for {@code long}s that matches, if the value is between the given range.
+     * <p>
+     * Range start and end <strong>IS</strong>included. The values are checked without boxing.
+     *
+     * @param from start value for the range
+     * @param to   end value for the range
+     *
+     * @return newly created matcher
+     */
+    public static org.hamcrest.core.LongBetween longBetweenWithBound(long from, long to) {
+        return org.hamcrest.BetweenMatcher.longBetweenWithBound(from, to);
+    }
+
+    /**
+     * Creates a matcher for {@code double}s that matches, if the value is between the given range.
+     * <p>
+     * Range start and end <strong>NOT</strong>included. The values are checked without boxing.
+     *
+     * @param from start value for the range
+     * @param to   end value for the range
+     *
+     * @return newly created matcher
+     */
+    public static org.hamcrest.core.DoubleBetween doubleBetween(double from, double to) {
+        return org.hamcrest.BetweenMatcher.doubleBetween(from, to);
+    }
+
+    /**
+     * Creates a matcher for {@code double}s that matches, if the value is between the given range.
+     * <p>
+     * Range start and end <strong>IS</strong>included. The values are checked without boxing.
+     *
+     * @param from start value for the range
+     * @param to   end value for the range
+     *
+     * @return newly created matcher
+     */
+    public static org.hamcrest.core.DoubleBetween doubleBetweenWithBound(double from, double to) {
+        return org.hamcrest.BetweenMatcher.doubleBetweenWithBound(from, to);
+    }
+
     /**
      * Creates a matcher that matches if the examined {@link Object} has the specified method with the specific annotation.
      * <p>
@@ -114,6 +198,24 @@ public class MatchersExtend extends org.hamcrest.Matchers {
         return org.hamcrest.AnnotationMatchers.hasMethodAnnotationParameter(methodName, annotationClazz, annotationParameterKey, annotationParameterValue);
     }
 
+    /**
+     * Creates a matcher that matches if every method in the package, which has the marker annotation, also has the required annotation.
+     * The methods are taken from a {@link com.glowanet.util.validator.AnnotationScanner}, so the classes are not loaded.
+     * <p>
+     * For example:
+     * <pre>assertThat(AnnotationScanner.scanClasspath(indexFile), everyAnnotatedMethodHas("com.glowanet.service", Transactional.class, Timed.class))</pre>
+     *
+     * @param packageName             the name of the package, including its sub packages, or empty for all packages
+     * @param markerAnnotationClazz   the clazz of the annotation, which marks the methods to check
+     * @param requiredAnnotationClazz the clazz of the annotation, which every marked method must have
+     *
+     * @return newly created matcher
+     */
+    public static org.hamcrest.Matcher<com.glowanet.util.validator.AnnotationScanner> everyAnnotatedMethodHas(
+            String packageName, Class<? extends Annotation> markerAnnotationClazz, Class<? extends Annotation> requiredAnnotationClazz) {
+        return org.hamcrest.AnnotationMatchers.everyAnnotatedMethodHas(packageName, markerAnnotationClazz, requiredAnnotationClazz);
+    }
+
     /**
      * Creates a matcher for {@code B}, that matches when the examined {@link Object} has values for all of
      * its JavaBean properties that are equal to the corresponding values of the specified bean.
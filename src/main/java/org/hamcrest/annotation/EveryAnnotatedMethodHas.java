@@ -0,0 +1,96 @@
+package org.hamcrest.annotation;
+
+import com.glowanet.util.validator.AnnotatedMethod;
+import com.glowanet.util.validator.AnnotationScanner;
+import org.hamcrest.BaseMatcher;
+import org.hamcrest.Description;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A matcher, which verifies if every method with a specific annotation in a package has another annotation as well.
+ * <p>
+ * The methods are taken from an {@link AnnotationScanner}, so the classes are not loaded.
+ *
+ * @author Oliver Glowa
+ * @see org.hamcrest.AnnotationMatchers
+ * @see AnnotationScanner
+ * @since 5.0.0
+ */
+public class EveryAnnotatedMethodHas extends BaseMatcher<AnnotationScanner> {
+
+    static final int MAX_REPORTED_METHODS = 10;
+
+    private final String                      packageName;
+    private final Class<? extends Annotation> markerAnnotationClazz;
+    private final Class<? extends Annotation> requiredAnnotationClazz;
+
+    /**
+     * @param packageName             the name of the package, including its sub packages
+     * @param markerAnnotationClazz   the clazz of the annotation, which marks the methods to check
+     * @param requiredAnnotationClazz the clazz of the annotation, which every marked method must have
+     */
+    private EveryAnnotatedMethodHas(String packageName, Class<? extends Annotation> markerAnnotationClazz,
+                                    Class<? extends Annotation> requiredAnnotationClazz) {
+        this.packageName = packageName == null ? "" : packageName;
+        this.markerAnnotationClazz = markerAnnotationClazz;
+        this.requiredAnnotationClazz = requiredAnnotationClazz;
+    }
+
+    /**
+     * Creates a matcher that matches if every method in the package, which has the marker annotation,
+     * also has the required annotation.
+     * <p>
+     * For example:
+     * <pre>assertThat(AnnotationScanner.scanClasspath(indexFile), everyAnnotatedMethodHas("com.glowanet.service", Transactional.class, Timed.class))</pre>
+     *
+     * @param packageName             the name of the package, including its sub packages, or empty for all packages
+     * @param markerAnnotationClazz   the clazz of the annotation, which marks the methods to check
+     * @param requiredAnnotationClazz the clazz of the annotation, which every marked method must have
+     *
+     * @return newly created matcher
+     */
+    public static EveryAnnotatedMethodHas everyAnnotatedMethodHas(String packageName, Class<? extends Annotation> markerAnnotationClazz,
+                                                                  Class<? extends Annotation> requiredAnnotationClazz) {
+        return new EveryAnnotatedMethodHas(packageName, markerAnnotationClazz, requiredAnnotationClazz);
+    }
+
+    @Override
+    public boolean matches(Object arg) {
+        boolean isMatches = false;
+        if (arg instanceof AnnotationScanner) {
+            isMatches = violationsOf((AnnotationScanner) arg).isEmpty();
+        }
+        return isMatches;
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText("every method in package ").appendValue(packageName).appendText(" annotated with ")
+                .appendValue(markerAnnotationClazz).appendText(" is annotated with ").appendValue(requiredAnnotationClazz);
+    }
+
+    @Override
+    public void describeMismatch(Object item, Description mismatchDescription) {
+        if (!(item instanceof AnnotationScanner)) {
+            mismatchDescription.appendText("actual=").appendValue(item).appendText(" is not an AnnotationScanner");
+            return;
+        }
+        List<AnnotatedMethod> violations = violationsOf((AnnotationScanner) item);
+        mismatchDescription.appendText(violations.size() + " methods are not annotated with ").appendValue(requiredAnnotationClazz)
+                .appendValueList(": ", ", ", "", violations.stream().limit(MAX_REPORTED_METHODS).map(AnnotatedMethod::toString)
+                        .collect(Collectors.toList()));
+        if (violations.size() > MAX_REPORTED_METHODS) {
+            mismatchDescription.appendText(" and " + (violations.size() - MAX_REPORTED_METHODS) + " more");
+        }
+    }
+
+    private List<AnnotatedMethod> violationsOf(AnnotationScanner scanner) {
+        return scanner.methodsAnnotatedWith(markerAnnotationClazz)
+                .filter(method -> method.isInPackage(packageName))
+                .filter(method -> !method.hasAnnotation(requiredAnnotationClazz))
+                .collect(Collectors.toList());
+    }
+}
@@ -8,6 +8,9 @@ import java.lang.annotation.Annotation;
 
 /**
  * A matcher, which verifies if a clazz has a specific annotation.
+ * <p>
+ * The method is also searched in the superclasses and interfaces of the clazz, and in its overloads.
+ * The annotation is also found as meta-annotation, e.g. at a composed annotation of the method.
  *
  * @param <T> the type of the clazz which will be checked
  *
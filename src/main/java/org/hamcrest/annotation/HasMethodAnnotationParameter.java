@@ -8,6 +8,9 @@ import java.lang.annotation.Annotation;
 
 /**
  * A matcher, which verifies if a clazz has a specific annotation-parameter and value.
+ * <p>
+ * The value is compared by the type of the annotation-parameter, e.g. an enum parameter matches the same constant or its name,
+ * an array parameter matches an array or a collection with equal elements, and a number parameter matches any number with the same value.
  *
  * @param <T> the type of the clazz which will be checked
  *
@@ -65,7 +68,7 @@ public class HasMethodAnnotationParameter<T extends Annotation> extends BaseMatc
         boolean isMatches = false;
         if (arg != null && annotationParameterValue != null) {
             isMatches = validator
-                    .isAnnotationParameter(arg.getClass(), methodName, annotationClazz, annotationParameterKey, annotationParameterValue.toString());
+                    .isAnnotationParameter(arg.getClass(), methodName, annotationClazz, annotationParameterKey, annotationParameterValue);
         }
         return isMatches;
     }
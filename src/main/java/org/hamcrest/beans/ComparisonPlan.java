@@ -0,0 +1,161 @@
+package org.hamcrest.beans;
+
+import com.glowanet.util.reflect.ReflectionHelper;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The precomputed comparison of an expected and an actual bean type, used by {@link SamePropertiesValuesAs}.
+ * <p>
+ * It holds the compared properties of the expected type in a fixed order, with a compiled reader for each of them,
+ * and the extra properties of the actual type. Both parts are cached, so repeated matches against the same type only call the getters.
+ * Every part is kept by the {@link ClassValue} of the clazz it is taken from: the compared properties by the expected clazz,
+ * and the names of the extra properties by the actual clazz, in a map with weak keys of the expected clazz.
+ * So neither clazz keeps the other one, or its classloader, alive.
+ *
+ * @since 5.0.0
+ */
+final class ComparisonPlan {
+
+    static final String COULD_NOT_GET_PROPERTIES = "Could not get property descriptors for %s";
+
+    private static final ClassValue<Map<Set<String>, ComparedProperties>> COMPARED = new ClassValue<>() {
+        @Override
+        protected Map<Set<String>, ComparedProperties> computeValue(final Class<?> expectedType) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final ClassValue<Map<Class<?>, Map<Set<String>, Set<String>>>> EXTRA = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, Map<Set<String>, Set<String>>> computeValue(final Class<?> actualType) {
+            return Collections.synchronizedMap(new WeakHashMap<>());
+        }
+    };
+
+    private final Class<?>           actualClazz;
+    private final ComparedProperties compared;
+    private final Set<String>        extraProperties;
+
+    private ComparisonPlan(final Class<?> actualClazz, final ComparedProperties compared, final Set<String> extraProperties) {
+        this.actualClazz = actualClazz;
+        this.compared = compared;
+        this.extraProperties = extraProperties;
+    }
+
+    /**
+     * @param expectedClazz     the type of the expected bean
+     * @param actualClazz       the type of the actual bean
+     * @param ignoredProperties the names of the properties, which are not compared, in any order and may contain null
+     *
+     * @return the plan, built from the cached parts
+     *
+     * @throws IllegalArgumentException when one of the types can not be introspected
+     */
+    static ComparisonPlan of(final Class<?> expectedClazz, final Class<?> actualClazz, final List<String> ignoredProperties) {
+        // HashSet tolerates null, unlike Set.copyOf
+        final Set<String> ignored = Collections.unmodifiableSet(new HashSet<>(ignoredProperties));
+        final ComparedProperties compared = COMPARED.get(expectedClazz).computeIfAbsent(ignored, key -> new ComparedProperties(expectedClazz, key));
+        final Map<Set<String>, Set<String>> extras = EXTRA.get(actualClazz).computeIfAbsent(expectedClazz, key -> new ConcurrentHashMap<>());
+        final Set<String> extraProperties = extras.computeIfAbsent(ignored, key -> extraPropertiesOf(actualClazz, key, compared.names));
+        return new ComparisonPlan(actualClazz, compared, extraProperties);
+    }
+
+    private static Set<String> extraPropertiesOf(final Class<?> actualClazz, final Set<String> ignoredProperties, final Set<String> comparedNames) {
+        final Set<String> extra = new LinkedHashSet<>();
+        for (final PropertyDescriptor descriptor : propertyDescriptorsFor(actualClazz)) {
+            final String name = descriptor.getDisplayName();
+            if (!ignoredProperties.contains(name) && !comparedNames.contains(name)) {
+                extra.add(name);
+            }
+        }
+        return Collections.unmodifiableSet(extra);
+    }
+
+    /**
+     * @return the type of the actual bean
+     */
+    Class<?> getActualClazz() {
+        return actualClazz;
+    }
+
+    /**
+     * @return the compared properties of the expected type, in a fixed order
+     */
+    List<PropertyDescriptor> getProperties() {
+        return compared.properties;
+    }
+
+    /**
+     * @return the properties of the actual type, which the expected type does not have
+     */
+    Set<String> getExtraProperties() {
+        return extraProperties;
+    }
+
+    /**
+     * @param index  the index of the property in {@link #getProperties()}
+     * @param target the bean to read from
+     *
+     * @return the value of the property, or null if the property has no getter
+     *
+     * @throws IllegalArgumentException when the getter fails
+     */
+    Object read(final int index, final Object target) {
+        final Function<Object, Object> reader = compared.readers.get(index);
+        if (reader == null) {
+            return null;
+        }
+        try {
+            return reader.apply(target);
+        } catch (final Exception e) { //NOSONAR java:S2221
+            throw new IllegalArgumentException(String.format(SamePropertiesValuesAs.COULD_NOT_INVOKE, compared.properties.get(index).getReadMethod(), target), e);
+        }
+    }
+
+    private static PropertyDescriptor[] propertyDescriptorsFor(final Class<?> clazz) {
+        try {
+            return Introspector.getBeanInfo(clazz, Object.class).getPropertyDescriptors();
+        } catch (final IntrospectionException e) {
+            throw new IllegalArgumentException(String.format(COULD_NOT_GET_PROPERTIES, clazz), e);
+        }
+    }
+
+    /**
+     * The compared properties of the expected type, only taken from the expected clazz.
+     */
+    private static final class ComparedProperties {
+
+        private final List<PropertyDescriptor>       properties;
+        private final List<Function<Object, Object>> readers;
+        private final Set<String>                    names;
+
+        private ComparedProperties(final Class<?> expectedClazz, final Set<String> ignoredProperties) {
+            final List<PropertyDescriptor> compared = new ArrayList<>();
+            final Set<String> comparedNames = new LinkedHashSet<>();
+            final List<Function<Object, Object>> compiled = new ArrayList<>();
+            for (final PropertyDescriptor descriptor : propertyDescriptorsFor(expectedClazz)) {
+                if (!ignoredProperties.contains(descriptor.getDisplayName())) {
+                    compared.add(descriptor);
+                    comparedNames.add(descriptor.getDisplayName());
+                    compiled.add(descriptor.getReadMethod() == null ? null : ReflectionHelper.compileGetter(descriptor.getReadMethod()));
+                }
+            }
+            this.properties = Collections.unmodifiableList(compared);
+            this.readers = Collections.unmodifiableList(compiled);
+            this.names = Collections.unmodifiableSet(comparedNames);
+        }
+    }
+}
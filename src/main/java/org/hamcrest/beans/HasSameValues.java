@@ -1,5 +1,6 @@
 package org.hamcrest.beans;
 
+import com.glowanet.util.reflect.FieldAccessor;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.commons.lang3.tuple.ImmutableTriple;
 import org.apache.commons.lang3.tuple.Triple;
@@ -9,10 +10,11 @@ import org.hamcrest.StringDescription;
 import org.hamcrest.TypeSafeMatcher;
 
 import java.lang.reflect.Field;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -21,6 +23,9 @@ import static org.hamcrest.Matchers.notNullValue;
 /**
  * A matcher, which verifies, if two instances are totally equal.
  * In contrast to {@link org.hamcrest.beans.SamePropertyValuesAs} this matcher reports every difference and not only the first one.
+ * <p>
+ * The matcher keeps no state between the calls, so one instance can be shared, also between threads.
+ * The differences are only collected, when the mismatch is described.
  *
  * @param <T> the type of the clazz which will be checked
  *
@@ -38,21 +43,26 @@ public class HasSameValues<T> extends TypeSafeMatcher<T> {
     static final String LIST_END                     = "}";
     static final String LIST_EQU                     = "=";
 
-    private final T                                    expectedBean;
-    private final Map<String, Object>                  fields         = new HashMap<>();
-    private final List<Triple<String, Object, Object>> mismatchFields = new LinkedList<>();
+    private final T               expectedBean;
+    private final String[]        fieldNames;
+    private final FieldAccessor[] fieldAccessors;
+    private final Object[]        expectedValues;
 
     private HasSameValues(final T expectedBean) {
         super(expectedBean == null ? null : expectedBean.getClass());
         this.expectedBean = expectedBean;
         verifyInput(this.expectedBean);
         Field[] allFields = FieldUtils.getAllFields(this.expectedBean.getClass()); //NOSONAR java:S2259
+        Map<String, FieldAccessor> accessors = new LinkedHashMap<>();
         for (Field singleField : allFields) {
-            try {
-                fields.put(singleField.getName(), FieldUtils.readField(singleField, this.expectedBean, true));
-            } catch (IllegalAccessException e) {
-                throw new IllegalArgumentException(e);
-            }
+            // like FieldUtils.readField(Object, String), a field hides the fields with the same name of the superclasses
+            accessors.putIfAbsent(singleField.getName(), FieldAccessor.of(singleField));
+        }
+        this.fieldNames = accessors.keySet().toArray(new String[0]);
+        this.fieldAccessors = accessors.values().toArray(new FieldAccessor[0]);
+        this.expectedValues = new Object[fieldAccessors.length];
+        for (int i = 0; i < fieldAccessors.length; i++) {
+            expectedValues[i] = fieldAccessors[i].get(this.expectedBean);
         }
     }
 
@@ -64,24 +74,39 @@ public class HasSameValues<T> extends TypeSafeMatcher<T> {
         assertThat(expectedBean, notNullValue());
     }
 
+    /**
+     * Stops at the first different field, without creating any matcher or text.
+     *
+     * @param item the actual bean
+     *
+     * @return true, if all fields are equal
+     */
     @Override
     protected boolean matchesSafely(T item) {
         assertThat(ACTUAL_ITEM_CANT_BE_COMPARED, item, notNullValue());
 
-        for (Map.Entry<String, Object> expectedField : fields.entrySet()) {
-            try {
-                String key = expectedField.getKey();
-                Object expectedValue = expectedField.getValue();
-                Object actualValue = FieldUtils.readField(item, key, true);
-                String description = checkThat("", actualValue, equalTo(expectedValue));
-                if (description != null) {
-                    mismatchFields.add(new ImmutableTriple<>(key, expectedValue, description));
-                }
-            } catch (IllegalAccessException e) {
-                throw new IllegalArgumentException(e);
+        for (int i = 0; i < fieldAccessors.length; i++) {
+            if (!Objects.deepEquals(fieldAccessors[i].get(item), expectedValues[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param item the actual bean
+     *
+     * @return every different field with the expected value and the mismatch text
+     */
+    List<Triple<String, Object, String>> findMismatchFields(T item) {
+        List<Triple<String, Object, String>> mismatchFields = new ArrayList<>();
+        for (int i = 0; i < fieldAccessors.length; i++) {
+            String description = checkThat("", fieldAccessors[i].get(item), equalTo(expectedValues[i]));
+            if (description != null) {
+                mismatchFields.add(new ImmutableTriple<>(fieldNames[i], expectedValues[i], description));
             }
         }
-        return mismatchFields.isEmpty();
+        return mismatchFields;
     }
 
     @Override
@@ -97,14 +122,12 @@ public class HasSameValues<T> extends TypeSafeMatcher<T> {
             StringBuilder mismatchText = new StringBuilder();
             mismatchText.append(LIST_START).append(System.lineSeparator()).append(INDENT);
             int i = 0;
-            for (Triple<String, Object, Object> mismatchField : mismatchFields) {
-                if (mismatchField.getRight() != null) {
-                    if (i > 0) {
-                        mismatchText.append(DELIMITER).append(System.lineSeparator()).append(INDENT);
-                    }
-                    mismatchText.append(mismatchField.getLeft()).append(LIST_EQU);
-                    mismatchText.append(mismatchField.getRight());
+            for (Triple<String, Object, String> mismatchField : findMismatchFields(item)) {
+                if (i > 0) {
+                    mismatchText.append(DELIMITER).append(System.lineSeparator()).append(INDENT);
                 }
+                mismatchText.append(mismatchField.getLeft()).append(LIST_EQU);
+                mismatchText.append(mismatchField.getRight());
                 i++;
             }
             mismatchText.append(System.lineSeparator()).append(INDENT).append(LIST_END);
@@ -48,9 +48,21 @@ class PropertyMatcher<T> extends DiagnosingMatcher<T> {
         } else {
             actualValue = readProperty(readMethod, actual);
         }
+        return matchesValue(actualValue, mismatch);
+    }
+
+    /**
+     * @param actualValue the already read value of the property
+     * @param mismatch    the description of the mismatch
+     *
+     * @return true, if {@code actualValue} is the expected value
+     */
+    boolean matchesValue(Object actualValue, Description mismatch) {
         if (!matcher.matches(actualValue)) {
-            mismatch.appendText(propertyName + " ");
-            matcher.describeMismatch(actualValue, mismatch);
+            if (!SamePropertiesValuesAs.isFailFast(mismatch)) {
+                mismatch.appendText(propertyName).appendText(" ");
+                matcher.describeMismatch(actualValue, mismatch);
+            }
             return false;
         }
         return true;
@@ -9,7 +9,6 @@ import java.beans.PropertyDescriptor;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -17,8 +16,17 @@ import static java.util.Arrays.asList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.beans.PropertyUtil.NO_ARGUMENTS;
-import static org.hamcrest.beans.PropertyUtil.propertyDescriptorsFor;
 
+/**
+ * A matcher, which verifies, if two beans have the same property values.
+ * <p>
+ * A plain {@link #matches(Object)} works in a fail-fast mode: it stops at the first difference and renders no text.
+ * The differences are only rendered, when the mismatch is described.
+ *
+ * @param <T> the type of the bean
+ *
+ * @see org.hamcrest.beans.SamePropertyValuesAs
+ */
 public class SamePropertiesValuesAs<T> extends DiagnosingMatcher<T> {
 
     private static final String      DELIMITER        = ", ";
@@ -32,18 +40,18 @@ public class SamePropertiesValuesAs<T> extends DiagnosingMatcher<T> {
     static final String LIST_END                    = "}";
 
     private final T                        expectedBean;
-    private final Set<String>              propertyNames;
     private final List<PropertyMatcher<?>> propertyMatchers;
     private final List<String>             ignoredFields;
 
+    private volatile ComparisonPlan lastPlan;
+
     private SamePropertiesValuesAs(T expectedBean, List<String> ignoredProperties) {
         verifyInput(expectedBean);
 
-        PropertyDescriptor[] descriptors = propertyDescriptorsFor(expectedBean, Object.class);
         this.expectedBean = expectedBean;
         this.ignoredFields = Collections.unmodifiableList(ignoredProperties);
-        this.propertyNames = propertyNamesFrom(descriptors, ignoredProperties);
-        this.propertyMatchers = propertyMatchersFor(expectedBean, descriptors, ignoredProperties);
+        this.lastPlan = ComparisonPlan.of(expectedBean.getClass(), expectedBean.getClass(), ignoredFields);
+        this.propertyMatchers = propertyMatchersFor(expectedBean, lastPlan.getProperties());
     }
 
     public static <T> Matcher<T> samePropertiesValuesAs(T expectedBean, String... ignoredProperties) {
@@ -60,6 +68,22 @@ public class SamePropertiesValuesAs<T> extends DiagnosingMatcher<T> {
                 && hasAllMatchingValues(actual, mismatch);
     }
 
+    /**
+     * The plan of the last actual type is kept, so a series of beans of the same type needs no cache lookup.
+     *
+     * @param actualClazz the type of the actual bean
+     *
+     * @return the comparison plan for {@code actualClazz}
+     */
+    private ComparisonPlan planFor(Class<?> actualClazz) {
+        ComparisonPlan plan = lastPlan;
+        if (plan.getActualClazz() != actualClazz) {
+            plan = ComparisonPlan.of(expectedBean.getClass(), actualClazz, ignoredFields);
+            lastPlan = plan;
+        }
+        return plan;
+    }
+
     @Override
     public void describeTo(Description description) {
         description.appendText(String.format(SAME_PROPERTY_VALUES_AS, expectedBean.getClass().getSimpleName())) //
@@ -72,14 +96,20 @@ public class SamePropertiesValuesAs<T> extends DiagnosingMatcher<T> {
     }
 
     boolean hasAllMatchingValues(Object actual, Description mismatchDescription) {
+        ComparisonPlan plan = planFor(actual.getClass());
         boolean result = true;
         int idxLoop = 0;
-        for (Matcher<?> propertyMatcher : propertyMatchers) {
-            if (!propertyMatcher.matches(actual)) {
+        for (int i = 0; i < propertyMatchers.size(); i++) {
+            PropertyMatcher<?> propertyMatcher = propertyMatchers.get(i);
+            Object actualValue = plan.read(i, actual);
+            if (!propertyMatcher.matchesValue(actualValue, Description.NONE)) {
+                if (isFailFast(mismatchDescription)) {
+                    return false;
+                }
                 if (idxLoop > 0) {
                     mismatchDescription.appendText(DELIMITER);
                 }
-                propertyMatcher.describeMismatch(actual, mismatchDescription);
+                propertyMatcher.matchesValue(actualValue, mismatchDescription);
                 idxLoop++;
                 result = false;
             }
@@ -91,45 +121,43 @@ public class SamePropertiesValuesAs<T> extends DiagnosingMatcher<T> {
         if (expectedBean.getClass().isAssignableFrom(actual.getClass())) {
             return true;
         }
+        if (isFailFast(mismatchDescription)) {
+            return false;
+        }
 
         mismatchDescription.appendText(String.format(IS_INCOMPATIBLE_TYPE, actual.getClass().getSimpleName()));
         return false;
     }
 
     private boolean hasNoExtraProperties(Object actual, Description mismatchDescription) {
-        Set<String> actualPropertyNames = propertyNamesFrom(propertyDescriptorsFor(actual, Object.class), ignoredFields);
-        actualPropertyNames.removeAll(propertyNames);
+        Set<String> actualPropertyNames = planFor(actual.getClass()).getExtraProperties();
         if (!actualPropertyNames.isEmpty()) {
+            if (isFailFast(mismatchDescription)) {
+                return false;
+            }
             mismatchDescription.appendText(String.format(HAS_EXTRA_PROPERTIES_CALLED, actualPropertyNames));
             return false;
         }
         return true;
     }
 
-    private static <T> List<PropertyMatcher<?>> propertyMatchersFor(T bean, PropertyDescriptor[] descriptors, List<String> ignoredFields) {
-        List<PropertyMatcher<?>> result = new ArrayList<>(descriptors.length);
-        for (PropertyDescriptor propertyDescriptor : descriptors) {
-            if (isIgnored(ignoredFields, propertyDescriptor)) {
-                result.add(PropertyMatcher.matchProperty(propertyDescriptor, bean));
-            }
-        }
-        return result;
+    /**
+     * @param mismatchDescription the description of the current match
+     *
+     * @return true, if only the result is needed, e.g. called by {@link #matches(Object)}
+     */
+    static boolean isFailFast(Description mismatchDescription) {
+        return mismatchDescription == Description.NONE;
     }
 
-    private static Set<String> propertyNamesFrom(PropertyDescriptor[] descriptors, List<String> ignoredFields) {
-        HashSet<String> result = new HashSet<>();
+    private static <T> List<PropertyMatcher<?>> propertyMatchersFor(T bean, List<PropertyDescriptor> descriptors) {
+        List<PropertyMatcher<?>> result = new ArrayList<>(descriptors.size());
         for (PropertyDescriptor propertyDescriptor : descriptors) {
-            if (isIgnored(ignoredFields, propertyDescriptor)) {
-                result.add(propertyDescriptor.getDisplayName());
-            }
+            result.add(PropertyMatcher.matchProperty(propertyDescriptor, bean));
         }
         return result;
     }
 
-    private static boolean isIgnored(List<String> ignoredFields, PropertyDescriptor propertyDescriptor) {
-        return !ignoredFields.contains(propertyDescriptor.getDisplayName());
-    }
-
     protected Object readProperty(Method method, Object target) {
         try {
             return method.invoke(target, NO_ARGUMENTS);
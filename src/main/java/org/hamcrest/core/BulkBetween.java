@@ -0,0 +1,143 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.notNullValue;
+
+/**
+ * Checks many values at once against a {@link IsBetween.Range}, e.g. a large array or a memory-mapped file.
+ * <p>
+ * For example:
+ * <pre>assertThat(BulkBetween.checkAll(values, new Range&lt;&gt;(0d, 1d), true), BulkBetween.allInRange())</pre>
+ * The checks are done by {@link IntBetween}, {@link LongBetween} and {@link DoubleBetween} without boxing.
+ * A {@link ByteBuffer} is read with its own byte order.
+ *
+ * @author Oliver Glowa
+ * @since 5.0.0
+ */
+public final class BulkBetween {
+
+    /**
+     * Singleton with only static methods has no public constructor.
+     */
+    private BulkBetween() {
+    }
+
+    /**
+     * @param values    the values to check
+     * @param fromTo    start and end value as {@code Range}
+     * @param withBound true, if range start and end are included
+     *
+     * @return the number of values out of range and the index of the first one
+     */
+    public static RangeCheckResult checkAll(double[] values, IsBetween.Range<Double> fromTo, boolean withBound) {
+        return doubleBetween(fromTo, withBound).matchesAll(values);
+    }
+
+    /**
+     * @param values    the values to check
+     * @param fromTo    start and end value as {@code Range}
+     * @param withBound true, if range start and end are included
+     *
+     * @return the number of values out of range and the index of the first one
+     */
+    public static RangeCheckResult checkAll(long[] values, IsBetween.Range<Long> fromTo, boolean withBound) {
+        return longBetween(fromTo, withBound).matchesAll(values);
+    }
+
+    /**
+     * @param values    the values to check, from position to limit
+     * @param fromTo    start and end value as {@code Range}
+     * @param withBound true, if range start and end are included
+     *
+     * @return the number of values out of range and the index of the first one, relative to the position
+     */
+    public static RangeCheckResult checkAll(IntBuffer values, IsBetween.Range<Integer> fromTo, boolean withBound) {
+        return intBetween(fromTo, withBound).matchesAll(values);
+    }
+
+    /**
+     * @param values    the {@code double} values to check, from position to limit
+     * @param fromTo    start and end value as {@code Range}
+     * @param withBound true, if range start and end are included
+     *
+     * @return the number of values out of range and the index of the first one, relative to the position
+     */
+    public static RangeCheckResult checkAllDoubles(ByteBuffer values, IsBetween.Range<Double> fromTo, boolean withBound) {
+        return doubleBetween(fromTo, withBound).matchesAll(values.asDoubleBuffer());
+    }
+
+    /**
+     * @param values    the {@code long} values to check, from position to limit
+     * @param fromTo    start and end value as {@code Range}
+     * @param withBound true, if range start and end are included
+     *
+     * @return the number of values out of range and the index of the first one, relative to the position
+     */
+    public static RangeCheckResult checkAllLongs(ByteBuffer values, IsBetween.Range<Long> fromTo, boolean withBound) {
+        return longBetween(fromTo, withBound).matchesAll(values.asLongBuffer());
+    }
+
+    /**
+     * @param values    the {@code int} values to check, from position to limit
+     * @param fromTo    start and end value as {@code Range}
+     * @param withBound true, if range start and end are included
+     *
+     * @return the number of values out of range and the index of the first one, relative to the position
+     */
+    public static RangeCheckResult checkAllInts(ByteBuffer values, IsBetween.Range<Integer> fromTo, boolean withBound) {
+        return intBetween(fromTo, withBound).matchesAll(values.asIntBuffer());
+    }
+
+    /**
+     * @return a matcher, which matches if a bulk check found no value out of range
+     */
+    public static Matcher<RangeCheckResult> allInRange() {
+        return new AllInRange();
+    }
+
+    private static void verifyInput(IsBetween.Range<?> fromTo) {
+        assertThat(fromTo, notNullValue());
+        assertThat(fromTo.getLeft(), notNullValue());
+        assertThat(fromTo.getRight(), notNullValue());
+    }
+
+    private static DoubleBetween doubleBetween(IsBetween.Range<Double> fromTo, boolean withBound) {
+        verifyInput(fromTo);
+        return new DoubleBetween(fromTo.getLeft(), fromTo.getRight(), withBound);
+    }
+
+    private static LongBetween longBetween(IsBetween.Range<Long> fromTo, boolean withBound) {
+        verifyInput(fromTo);
+        return new LongBetween(fromTo.getLeft(), fromTo.getRight(), withBound);
+    }
+
+    private static IntBetween intBetween(IsBetween.Range<Integer> fromTo, boolean withBound) {
+        verifyInput(fromTo);
+        return new IntBetween(fromTo.getLeft(), fromTo.getRight(), withBound);
+    }
+
+    private static class AllInRange extends TypeSafeMatcher<RangeCheckResult> {
+
+        @Override
+        protected boolean matchesSafely(RangeCheckResult item) {
+            return item.isInRange();
+        }
+
+        @Override
+        protected void describeMismatchSafely(RangeCheckResult item, Description mismatchDescription) {
+            mismatchDescription.appendText(item.toString());
+        }
+
+        @Override
+        public void describeTo(Description description) {
+            description.appendText("all values are in range");
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package org.hamcrest.core;
+
+import java.nio.DoubleBuffer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+/**
+ * A matcher, which verifies if a {@code double} value is in a specific range, without boxing the checked values.
+ * <p>
+ * Use {@link #matches(double)} for a single value and {@link #matchesAll(double[])} or {@link #matchesAll(DoubleBuffer)} for many values.
+ * {@code NaN} is never in range.
+ *
+ * @author Oliver Glowa
+ * @see IsBetween
+ * @since 5.0.0
+ */
+public class DoubleBetween extends PrimitiveBetween<Double> {
+
+    private final double from;
+    private final double to;
+
+    protected DoubleBetween(double from, double to, boolean withBound) {
+        super(withBound);
+        verifyInput(from, to, withBound);
+        this.from = from;
+        this.to = to;
+    }
+
+    protected static void verifyInput(double from, double to, boolean withBound) {
+        if (withBound) {
+            assertThat(to, greaterThanOrEqualTo(from));
+        } else {
+            assertThat(to, greaterThan(from));
+        }
+    }
+
+    /**
+     * Range start and end <strong>NOT</strong>included.
+     *
+     * @param from start value for the range
+     * @param to   end value for the range
+     *
+     * @return newly created matcher
+     */
+    public static DoubleBetween between(double from, double to) {
+        return new DoubleBetween(from, to, false);
+    }
+
+    /**
+     * Range start and end <strong>IS</strong>included.
+     *
+     * @param from start value for the range
+     * @param to   end value for the range
+     *
+     * @return newly created matcher
+     */
+    public static DoubleBetween betweenWithBound(double from, double to) {
+        return new DoubleBetween(from, to, true);
+    }
+
+    @Override
+    protected Double getFrom() {
+        return from;
+    }
+
+    @Override
+    protected Double getTo() {
+        return to;
+    }
+
+    /**
+     * @param value the value to check
+     *
+     * @return true, if {@code value} is in the range
+     */
+    public boolean matches(double value) {
+        return withBound ? (value >= from && value <= to) : (value > from && value < to);
+    }
+
+    /**
+     * The values are checked in chunks with a branch-free loop, which the JIT compiler can vectorize.
+     *
+     * @param values the values to check
+     *
+     * @return the number of values out of range and the index of the first one
+     */
+    public RangeCheckResult matchesAll(double[] values) {
+        final RangeCheckResult.Builder builder = new RangeCheckResult.Builder();
+        scan(values, 0, values.length, builder);
+        return builder.build();
+    }
+
+    /**
+     * Checks the remaining values of the buffer, the position of {@code values} is not changed.
+     * The indices of the result are relative to the position.
+     *
+     * @param values the values to check, e.g. a view of a memory-mapped file
+     *
+     * @return the number of values out of range and the index of the first one
+     */
+    public RangeCheckResult matchesAll(DoubleBuffer values) {
+        final RangeCheckResult.Builder builder = new RangeCheckResult.Builder();
+        if (values.hasArray()) {
+            final int offset = values.arrayOffset() + values.position();
+            scan(values.array(), offset, offset + values.remaining(), builder);
+        } else {
+            // direct or mapped, absolute reads need no copy
+            scan(values, values.position(), values.limit(), builder);
+        }
+        return builder.build();
+    }
+
+    private void scan(double[] values, int from, int to, RangeCheckResult.Builder builder) {
+        for (int start = from, end; start < to; start = end) {
+            end = chunkEnd(start, to);
+            final int count = countOutOfRange(values, start, end);
+            final int first = count > 0 && builder.isInRange() ? firstOutOfRange(values, start, end) - start : 0;
+            builder.add(end - start, count, first);
+        }
+    }
+
+    private int countOutOfRange(double[] values, int from, int to) {
+        int count = 0;
+        if (withBound) {
+            for (int i = from; i < to; i++) {
+                count += (values[i] >= this.from & values[i] <= this.to) ? 0 : 1;
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                count += (values[i] > this.from & values[i] < this.to) ? 0 : 1;
+            }
+        }
+        return count;
+    }
+
+    private int firstOutOfRange(double[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!matches(values[i])) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    private void scan(DoubleBuffer values, int from, int to, RangeCheckResult.Builder builder) {
+        for (int start = from, end; start < to; start = end) {
+            end = chunkEnd(start, to);
+            final int count = countOutOfRange(values, start, end);
+            final int first = count > 0 && builder.isInRange() ? firstOutOfRange(values, start, end) - start : 0;
+            builder.add(end - start, count, first);
+        }
+    }
+
+    private int countOutOfRange(DoubleBuffer values, int from, int to) {
+        int count = 0;
+        if (withBound) {
+            for (int i = from; i < to; i++) {
+                final double value = values.get(i);
+                count += (value >= this.from & value <= this.to) ? 0 : 1;
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                final double value = values.get(i);
+                count += (value > this.from & value < this.to) ? 0 : 1;
+            }
+        }
+        return count;
+    }
+
+    private int firstOutOfRange(DoubleBuffer values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!matches(values.get(i))) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    protected boolean matchesSafely(Double item) {
+        return matches(item.doubleValue());
+    }
+}
@@ -4,7 +4,6 @@ import org.apache.commons.lang3.tuple.MutablePair;
 import org.apache.commons.lang3.tuple.Pair;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
-import org.hamcrest.StringDescription;
 import org.hamcrest.TypeSafeMatcher;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -39,17 +38,16 @@ public class IsBetween<T extends Comparable<T>> extends TypeSafeMatcher<T> {
     protected static final String DESC_MISMATCH_TEXT_2 = " is not between %s and $%s. ";
     protected static final String RANGE_INFO_NOT_INCL  = "Range start and end not included. ";
 
-    protected static final Description DESC_MISMATCH    = new StringDescription();
-    protected static final Description DESC_DESCRIPTION = new StringDescription();
-
     protected Pair<T, T> fromTo;
 
+    private volatile String descriptionText;
+    private volatile String mismatchText;
+
     @SuppressWarnings("java:S1699")
     protected IsBetween(Range<T> fromTo) {
         super();
         verifyInput(fromTo);
         this.fromTo = fromTo;
-        initDescription();
     }
 
     protected void verifyInput(Range<T> fromTo) {
@@ -63,9 +61,34 @@ public class IsBetween<T extends Comparable<T>> extends TypeSafeMatcher<T> {
         return RANGE_INFO_NOT_INCL;
     }
 
-    protected void initDescription() {
-        DESC_DESCRIPTION.appendText(String.format(DESC_MISMATCH_TEXT_1, fromTo.getLeft(), fromTo.getRight())).appendText(getRangeInfo());
-        DESC_MISMATCH.appendText(String.format(DESC_MISMATCH_TEXT_2, fromTo.getLeft(), fromTo.getRight())).appendText(getRangeInfo());
+    /**
+     * The text is rendered on first use and kept by this matcher.
+     * Concurrent first calls may render it more than once, but always to the same text.
+     *
+     * @return the description of the range
+     */
+    protected String getDescriptionText() {
+        String result = descriptionText;
+        if (result == null) {
+            result = String.format(DESC_MISMATCH_TEXT_1, fromTo.getLeft(), fromTo.getRight()) + getRangeInfo();
+            descriptionText = result;
+        }
+        return result;
+    }
+
+    /**
+     * The text is rendered on first use and kept by this matcher.
+     * Concurrent first calls may render it more than once, but always to the same text.
+     *
+     * @return the mismatch text, which follows the value
+     */
+    protected String getMismatchText() {
+        String result = mismatchText;
+        if (result == null) {
+            result = String.format(DESC_MISMATCH_TEXT_2, fromTo.getLeft(), fromTo.getRight()) + getRangeInfo();
+            mismatchText = result;
+        }
+        return result;
     }
 
     public static <T extends Comparable<T>> Matcher<T> between(T from, T to) {
@@ -87,11 +110,11 @@ public class IsBetween<T extends Comparable<T>> extends TypeSafeMatcher<T> {
 
     @Override
     protected void describeMismatchSafely(T item, Description mismatchDescription) {
-        mismatchDescription.appendValue(item).appendText(DESC_MISMATCH.toString());
+        mismatchDescription.appendValue(item).appendText(getMismatchText());
     }
 
     @Override
     public void describeTo(Description description) {
-        description.appendText(DESC_DESCRIPTION.toString());
+        description.appendText(getDescriptionText());
     }
 }
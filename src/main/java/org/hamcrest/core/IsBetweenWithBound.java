@@ -35,13 +35,6 @@ public class IsBetweenWithBound<T extends Comparable<T>> extends IsBetween<T> {
         return RANGE_INFO_INCLUDED;
     }
 
-    @Override
-    protected void initDescription() {
-        DESC_DESCRIPTION.appendText(String.format(DESC_MISMATCH_TEXT_1, fromTo.getLeft(), fromTo.getRight())).appendText(getRangeInfo());
-        DESC_MISMATCH.appendText(String.format(DESC_MISMATCH_TEXT_2, fromTo.getLeft(), fromTo.getRight())).appendText(getRangeInfo());
-
-    }
-
     public static <T extends Comparable<T>> Matcher<T> between(T from, T to) {
         return between(new Range<>(from, to));
     }
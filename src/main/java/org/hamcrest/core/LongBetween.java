@@ -0,0 +1,184 @@
+package org.hamcrest.core;
+
+import java.nio.LongBuffer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+
+/**
+ * A matcher, which verifies if a {@code long} value is in a specific range, without boxing the checked values.
+ * <p>
+ * Use {@link #matches(long)} for a single value and {@link #matchesAll(long[])} or {@link #matchesAll(LongBuffer)} for many values.
+ *
+ * @author Oliver Glowa
+ * @see IsBetween
+ * @since 5.0.0
+ */
+public class LongBetween extends PrimitiveBetween<Long> {
+
+    private final long from;
+    private final long to;
+
+    protected LongBetween(long from, long to, boolean withBound) {
+        super(withBound);
+        verifyInput(from, to, withBound);
+        this.from = from;
+        this.to = to;
+    }
+
+    protected static void verifyInput(long from, long to, boolean withBound) {
+        if (withBound) {
+            assertThat(to, greaterThanOrEqualTo(from));
+        } else {
+            assertThat(to, greaterThan(from));
+        }
+    }
+
+    /**
+     * Range start and end <strong>NOT</strong>included.
+     *
+     * @param from start value for the range
+     * @param to   end value for the range
+     *
+     * @return newly created matcher
+     */
+    public static LongBetween between(long from, long to) {
+        return new LongBetween(from, to, false);
+    }
+
+    /**
+     * Range start and end <strong>IS</strong>included.
+     *
+     * @param from start value for the range
+     * @param to   end value for the range
+     *
+     * @return newly created matcher
+     */
+    public static LongBetween betweenWithBound(long from, long to) {
+        return new LongBetween(from, to, true);
+    }
+
+    @Override
+    protected Long getFrom() {
+        return from;
+    }
+
+    @Override
+    protected Long getTo() {
+        return to;
+    }
+
+    /**
+     * @param value the value to check
+     *
+     * @return true, if {@code value} is in the range
+     */
+    public boolean matches(long value) {
+        return withBound ? (value >= from && value <= to) : (value > from && value < to);
+    }
+
+    /**
+     * The values are checked in chunks with a branch-free loop, which the JIT compiler can vectorize.
+     *
+     * @param values the values to check
+     *
+     * @return the number of values out of range and the index of the first one
+     */
+    public RangeCheckResult matchesAll(long[] values) {
+        final RangeCheckResult.Builder builder = new RangeCheckResult.Builder();
+        scan(values, 0, values.length, builder);
+        return builder.build();
+    }
+
+    /**
+     * Checks the remaining values of the buffer, the position of {@code values} is not changed.
+     * The indices of the result are relative to the position.
+     *
+     * @param values the values to check, e.g. a view of a memory-mapped file
+     *
+     * @return the number of values out of range and the index of the first one
+     */
+    public RangeCheckResult matchesAll(LongBuffer values) {
+        final RangeCheckResult.Builder builder = new RangeCheckResult.Builder();
+        if (values.hasArray()) {
+            final int offset = values.arrayOffset() + values.position();
+            scan(values.array(), offset, offset + values.remaining(), builder);
+        } else {
+            // direct or mapped, absolute reads need no copy
+            scan(values, values.position(), values.limit(), builder);
+        }
+        return builder.build();
+    }
+
+    private void scan(long[] values, int from, int to, RangeCheckResult.Builder builder) {
+        for (int start = from, end; start < to; start = end) {
+            end = chunkEnd(start, to);
+            final int count = countOutOfRange(values, start, end);
+            final int first = count > 0 && builder.isInRange() ? firstOutOfRange(values, start, end) - start : 0;
+            builder.add(end - start, count, first);
+        }
+    }
+
+    private int countOutOfRange(long[] values, int from, int to) {
+        int count = 0;
+        if (withBound) {
+            for (int i = from; i < to; i++) {
+                count += (values[i] >= this.from & values[i] <= this.to) ? 0 : 1;
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                count += (values[i] > this.from & values[i] < this.to) ? 0 : 1;
+            }
+        }
+        return count;
+    }
+
+    private int firstOutOfRange(long[] values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!matches(values[i])) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    private void scan(LongBuffer values, int from, int to, RangeCheckResult.Builder builder) {
+        for (int start = from, end; start < to; start = end) {
+            end = chunkEnd(start, to);
+            final int count = countOutOfRange(values, start, end);
+            final int first = count > 0 && builder.isInRange() ? firstOutOfRange(values, start, end) - start : 0;
+            builder.add(end - start, count, first);
+        }
+    }
+
+    private int countOutOfRange(LongBuffer values, int from, int to) {
+        int count = 0;
+        if (withBound) {
+            for (int i = from; i < to; i++) {
+                final long value = values.get(i);
+                count += (value >= this.from & value <= this.to) ? 0 : 1;
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                final long value = values.get(i);
+                count += (value > this.from & value < this.to) ? 0 : 1;
+            }
+        }
+        return count;
+    }
+
+    private int firstOutOfRange(LongBuffer values, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!matches(values.get(i))) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    @Override
+    protected boolean matchesSafely(Long item) {
+        return matches(item.longValue());
+    }
+}
@@ -0,0 +1,104 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Description;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * Base clazz of the range matchers for primitive values.
+ * <p>
+ * The subclasses check the primitive values without boxing, a boxed value is only unboxed once.
+ * The descriptions are the same as the ones of {@link IsBetween} and {@link IsBetweenWithBound}.
+ *
+ * @param <T> the boxed type of the primitive values
+ *
+ * @author Oliver Glowa
+ * @see IntBetween
+ * @see LongBetween
+ * @see DoubleBetween
+ * @since 5.0.0
+ */
+public abstract class PrimitiveBetween<T extends Number> extends TypeSafeMatcher<T> {
+
+    /**
+     * The number of values, which are checked at once by the bulk checks.
+     */
+    protected static final int CHUNK_SIZE = 4096;
+
+    protected final boolean withBound;
+
+    private volatile String descriptionText;
+    private volatile String mismatchText;
+
+    /**
+     * @param withBound true, if range start and end are included
+     */
+    protected PrimitiveBetween(boolean withBound) {
+        super();
+        this.withBound = withBound;
+    }
+
+    /**
+     * @return the start value of the range
+     */
+    protected abstract T getFrom();
+
+    /**
+     * @return the end value of the range
+     */
+    protected abstract T getTo();
+
+    /**
+     * @return true, if range start and end are included
+     */
+    public boolean isWithBound() {
+        return withBound;
+    }
+
+    /**
+     * @param start the start index of the chunk
+     * @param to    the end index of all values, not included
+     *
+     * @return the end index of the chunk, not included, without an overflow near {@link Integer#MAX_VALUE}
+     */
+    protected static int chunkEnd(int start, int to) {
+        return to - start <= CHUNK_SIZE ? to : start + CHUNK_SIZE;
+    }
+
+    protected String getRangeInfo() {
+        return withBound ? IsBetweenWithBound.RANGE_INFO_INCLUDED : IsBetween.RANGE_INFO_NOT_INCL;
+    }
+
+    /**
+     * @return the description of the range, rendered once
+     */
+    protected String getDescriptionText() {
+        String result = descriptionText;
+        if (result == null) {
+            result = String.format(IsBetween.DESC_MISMATCH_TEXT_1, getFrom(), getTo()) + getRangeInfo();
+            descriptionText = result;
+        }
+        return result;
+    }
+
+    /**
+     * @return the mismatch text, which follows the value, rendered once
+     */
+    protected String getMismatchText() {
+        String result = mismatchText;
+        if (result == null) {
+            result = String.format(IsBetween.DESC_MISMATCH_TEXT_2, getFrom(), getTo()) + getRangeInfo();
+            mismatchText = result;
+        }
+        return result;
+    }
+
+    @Override
+    protected void describeMismatchSafely(T item, Description mismatchDescription) {
+        mismatchDescription.appendValue(item).appendText(getMismatchText());
+    }
+
+    @Override
+    public void describeTo(Description description) {
+        description.appendText(getDescriptionText());
+    }
+}
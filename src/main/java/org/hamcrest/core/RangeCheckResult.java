@@ -0,0 +1,102 @@
+package org.hamcrest.core;
+
+/**
+ * The result of a bulk range check, e.g. {@link IntBetween#matchesAll(int[])}.
+ * <p>
+ * It holds the number of checked values, the number of values out of range and the index of the first one.
+ *
+ * @author Oliver Glowa
+ * @since 5.0.0
+ */
+public final class RangeCheckResult {
+
+    /**
+     * The first index, when all values are in range.
+     */
+    public static final long NO_INDEX = -1L;
+
+    private final long length;
+    private final long count;
+    private final long firstIndex;
+
+    /**
+     * @param length     the number of checked values
+     * @param count      the number of values out of range
+     * @param firstIndex the index of the first value out of range, or {@link #NO_INDEX}
+     */
+    public RangeCheckResult(long length, long count, long firstIndex) {
+        this.length = length;
+        this.count = count;
+        this.firstIndex = firstIndex;
+    }
+
+    /**
+     * @return the number of checked values
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * @return the number of values out of range
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the index of the first value out of range, or {@link #NO_INDEX}
+     */
+    public long getFirstIndex() {
+        return firstIndex;
+    }
+
+    /**
+     * @return true, if all values are in range
+     */
+    public boolean isInRange() {
+        return count == 0;
+    }
+
+    /**
+     * Collects the results of chunk-wise range checks, the indices are relative to the first chunk.
+     */
+    static final class Builder {
+
+        private long length;
+        private long count;
+        private long firstIndex = NO_INDEX;
+
+        /**
+         * @return true, if no value out of range was added yet
+         */
+        boolean isInRange() {
+            return count == 0;
+        }
+
+        /**
+         * @param chunkLength the number of checked values of the chunk
+         * @param chunkCount  the number of values out of range of the chunk
+         * @param chunkFirst  the index of the first value out of range within the chunk, only used for the first failing chunk
+         */
+        void add(int chunkLength, int chunkCount, int chunkFirst) {
+            if (chunkCount > 0 && count == 0) {
+                firstIndex = length + chunkFirst;
+            }
+            length += chunkLength;
+            count += chunkCount;
+        }
+
+        RangeCheckResult build() {
+            return new RangeCheckResult(length, count, firstIndex);
+        }
+    }
+
+    @Override
+    public String toString() {
+        if (isInRange()) {
+            return String.format("all %d values are in range", length);
+        }
+        return String.format("%d of %d values are out of range, first at index %d", count, length, firstIndex);
+    }
+}
@@ -0,0 +1,100 @@
+package com.glowanet.util.junit;
+
+import com.glowanet.util.junit.jupiter.api.extension.ErrorCollector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @see TestResultHelper
+ */
+public class TestResultHelperTest {
+
+    private ErrorCollector collector;
+
+    @BeforeEach
+    public void setUp() {
+        collector = new ErrorCollector();
+    }
+
+    @Test
+    public void testVerifyCollector_withErrorSize_verifies_size() {
+        collector.addError(new IllegalStateException("first"));
+
+        assertDoesNotThrow(() -> TestResultHelper.verifyCollector(collector, 1));
+        assertThrows(AssertionError.class, () -> TestResultHelper.verifyCollector(collector, 2));
+    }
+
+    @Test
+    public void testVerifyCollectorWithReset_clears_collector() {
+        collector.addError(new IllegalStateException("first"));
+
+        TestResultHelper.verifyCollectorWithReset(collector, 1);
+        assertThat(collector.getErrorSize(), is(0));
+    }
+
+    @Test
+    public void testVerifyCollector_withInstance_verifies_collectorField() {
+        WithCollector instance = new WithCollector();
+        instance.collector.addError(new IllegalStateException("first"));
+
+        assertDoesNotThrow(() -> TestResultHelper.verifyCollector(instance, 1));
+        assertDoesNotThrow(() -> TestResultHelper.verifyCollector(new WithCollector(), 0));
+    }
+
+    @Test
+    public void testPrepareCollector_withoutCollectorField_throws_clearFailure() {
+        AssertionError actual = assertThrows(AssertionError.class, () -> TestResultHelper.prepareCollector("no collector"));
+
+        assertThat(actual.getMessage(), equalTo(String.format(TestResultHelper.NO_COLLECTOR, String.class.getName())));
+    }
+
+    @Test
+    public void testPrepareCollector_withNullCollectorField_throws_clearFailure() {
+        WithCollector instance = new WithCollector();
+        instance.collector = null;
+
+        AssertionError actual = assertThrows(AssertionError.class, () -> TestResultHelper.prepareCollector(instance));
+
+        assertThat(actual.getMessage(), equalTo(String.format(TestResultHelper.NULL_COLLECTOR, WithCollector.class.getName(), null)));
+    }
+
+    @Test
+    public void testIsCollector_return_isErrorCollector() {
+        assertThat(TestResultHelper.isCollector(collector), is(true));
+        assertThat(TestResultHelper.isCollector(new WithCollector()), is(false));
+        assertThat(TestResultHelper.isCollector(null), is(false));
+    }
+
+    @Test
+    public void testExportTheErrors_appends_records(@TempDir Path tempDir) throws IOException {
+        Path exportFile = tempDir.resolve("errors.jsonl");
+        collector.addError(new IllegalStateException("first"));
+        collector.addError(new IllegalStateException("second"));
+
+        assertThat(TestResultHelper.exportTheErrors(collector, exportFile), is(2L));
+        assertThat(TestResultHelper.exportTheErrors(collector, exportFile), is(2L));
+
+        List<String> lines = Files.readAllLines(exportFile);
+        assertThat(lines, hasSize(4));
+        assertThat(lines.get(3), startsWith("{\"index\":1,\"type\":\"java.lang.IllegalStateException\",\"message\":\"second\""));
+    }
+
+    private static class WithCollector {
+
+        private ErrorCollector collector = new ErrorCollector();
+    }
+}
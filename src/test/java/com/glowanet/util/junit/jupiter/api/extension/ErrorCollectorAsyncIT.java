@@ -0,0 +1,38 @@
+package com.glowanet.util.junit.jupiter.api.extension;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class ErrorCollectorAsyncIT {
+
+    private static final int CHECKS = 100;
+
+    @RegisterExtension
+    public ErrorCollector collector = new ErrorCollector();
+
+    private final AtomicInteger checked = new AtomicInteger();
+
+    @Test
+    public void testWithAsyncChecks() {
+        for (int i = 0; i < CHECKS; i++) {
+            collector.checkSucceedsAsync(() -> {
+                TimeUnit.MILLISECONDS.sleep(10);
+                return checked.incrementAndGet();
+            });
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        // the checks are joined after the test execution
+        assertThat(checked.get(), equalTo(CHECKS));
+        assertThat(collector.getErrorSize(), equalTo(0));
+    }
+}
@@ -0,0 +1,33 @@
+package com.glowanet.util.junit.jupiter.api.extension;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+public class ErrorCollectorLimitIT {
+
+    @RegisterExtension
+    @ErrorCollectorLimit(maxErrors = 2, exemplars = 1)
+    public ErrorCollector collector = new ErrorCollector();
+
+    @Test
+    public void testWithLimitFromAnnotation() {
+        assertThat(collector.getMaxErrors(), equalTo(2));
+        assertThat(collector.getMaxExemplars(), equalTo(1));
+
+        for (int i = 0; i < 10; i++) {
+            collector.checkThat(i, equalTo(-1));
+        }
+        assertThat(collector.getErrorSize(), equalTo(10));
+        assertThat(collector.getErrorTexts(), hasSize(4));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        collector.reset();
+    }
+}
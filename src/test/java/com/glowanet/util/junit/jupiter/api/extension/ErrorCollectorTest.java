@@ -0,0 +1,676 @@
+package com.glowanet.util.junit.jupiter.api.extension;
+
+import org.hamcrest.CustomMatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.MultipleFailuresError;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.oneOf;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @see ErrorCollector
+ */
+public class ErrorCollectorTest {
+
+    private static final int THREADS    = 8;
+    private static final int PER_THREAD = 1_000;
+    private static final int ROWS       = 100_000;
+
+    private ErrorCollector o2T;
+
+    @BeforeEach
+    public void setUp() {
+        o2T = new ErrorCollector();
+    }
+
+    @Test
+    public void testAfterEach_noErrors_throws_nothing() {
+        o2T.checkThat(10, equalTo(10));
+
+        assertDoesNotThrow(() -> o2T.afterEach(null));
+    }
+
+    @Test
+    public void testAfterEach_oneError_throws_theError() {
+        IllegalStateException expected = new IllegalStateException("first");
+        o2T.addError(expected);
+
+        Exception actual = assertThrows(Exception.class, () -> o2T.afterEach(null));
+        assertThat(actual, sameInstance(expected));
+    }
+
+    @Test
+    public void testAfterEach_manyErrors_throws_failuresInOrder() {
+        o2T.addError(new IllegalStateException("first"));
+        o2T.checkThat("second", 20, equalTo(1));
+        o2T.addError(new IllegalStateException("third"));
+
+        MultipleFailuresError actual = assertThrows(MultipleFailuresError.class, () -> o2T.afterEach(null));
+        List<String> messages = actual.getFailures().stream().map(Throwable::getMessage).map(m -> m.split("\n")[0]).collect(Collectors.toList());
+        assertThat(messages, contains("first", "second", "third"));
+    }
+
+    @Test
+    public void testCheckThat_fromManyThreads_collects_everyError() throws InterruptedException {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                final int thread = t;
+                pool.execute(() -> {
+                    awaitQuietly(start);
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        o2T.checkThat(thread + ":" + i, i, equalTo(-1));
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            pool.shutdown();
+            assertThat(pool.awaitTermination(30, TimeUnit.SECONDS), is(true));
+        }
+
+        assertThat(o2T.getErrorSize(), is(THREADS * PER_THREAD));
+        List<String> firstThread = o2T.getErrorTexts().stream().filter(text -> text.startsWith("0:")).map(text -> text.split("\n")[0])
+                .collect(Collectors.toList());
+        assertThat(firstThread, equalTo(IntStream.range(0, PER_THREAD).mapToObj(i -> "0:" + i).collect(Collectors.toList())));
+    }
+
+    @Test
+    public void testReset_clears_errors() {
+        o2T.addError(new IllegalStateException("first"));
+
+        o2T.reset();
+        assertThat(o2T.getErrorSize(), is(0));
+        assertThat(o2T.getErrorTexts(), hasSize(0));
+    }
+
+    @Test
+    public void testWriteErrors_replaces_errors() {
+        o2T.addError(new IllegalStateException("first"));
+
+        o2T.writeErrors(List.of(new IllegalStateException("second"), new IllegalStateException("third")));
+        assertThat(o2T.getErrorTexts(), contains("second", "third"));
+        assertThat(o2T.getErrorSize(), is(2));
+    }
+
+    @Test
+    public void testHasErrors_return_stateOfCollector() {
+        assertThat(o2T.hasErrors(), is(false));
+
+        o2T.addError(new IllegalStateException("first"));
+        assertThat(o2T.hasErrors(), is(true));
+
+        o2T.reset();
+        assertThat(o2T.hasErrors(), is(false));
+    }
+
+    @Test
+    public void testForEachError_visits_errorsInOrder() {
+        IllegalStateException first = new IllegalStateException("first");
+        IllegalStateException second = new IllegalStateException("second");
+        o2T.addError(first);
+        o2T.addError(second);
+
+        List<Throwable> actual = new ArrayList<>();
+        o2T.forEachError(actual::add);
+        assertThat(actual, contains(first, second));
+    }
+
+    @Test
+    public void testAfterEach_beyondLimit_throws_summaryOfSimilarFailures() {
+        o2T = new ErrorCollector(2, 1);
+        o2T.addError(new IllegalStateException("first"));
+        o2T.addError(new IllegalStateException("second"));
+        for (int i = 0; i < 5; i++) {
+            o2T.checkThat("row " + i, i, equalTo(-1));
+        }
+        o2T.addError(new IllegalArgumentException("other"));
+
+        assertThat(o2T.getErrorSize(), is(8));
+        MultipleFailuresError actual = assertThrows(MultipleFailuresError.class, () -> o2T.afterEach(null));
+        List<String> messages = actual.getFailures().stream().map(Throwable::getMessage).map(m -> m.split("\n")[0]).collect(Collectors.toList());
+        assertThat(messages, contains("first", "second", "row 0", "4 more similar failures: java.lang.AssertionError: row #", "other"));
+    }
+
+    @Test
+    public void testCheckThat_beyondLimitFromManyThreads_keeps_limit() throws InterruptedException {
+        o2T = new ErrorCollector(10, 2);
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                pool.execute(() -> {
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        o2T.checkThat(i, equalTo(-1));
+                    }
+                });
+            }
+        } finally {
+            pool.shutdown();
+            assertThat(pool.awaitTermination(30, TimeUnit.SECONDS), is(true));
+        }
+
+        assertThat(o2T.getErrorSize(), is(THREADS * PER_THREAD));
+        List<String> texts = o2T.getErrorTexts();
+        assertThat(texts, hasSize(13));
+        assertThat(texts.get(12), startsWith(String.format("%d more similar failures", THREADS * PER_THREAD - 12)));
+    }
+
+    @Test
+    public void testReset_beyondLimit_clears_errors() {
+        o2T = new ErrorCollector(0, 1);
+        o2T.addError(new IllegalStateException("first"));
+        assertThat(o2T.hasErrors(), is(true));
+
+        o2T.reset();
+        assertThat(o2T.hasErrors(), is(false));
+        o2T.addError(new IllegalStateException("second"));
+        assertThat(o2T.getErrorTexts(), contains("second"));
+    }
+
+    @Test
+    public void testNew_withNegativeLimit_throws_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ErrorCollector(-1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new ErrorCollector(1, -1));
+    }
+
+    @Test
+    public void testCheckThat_stackless_throws_assertionErrorOfCaller() {
+        ErrorCollector expected = new ErrorCollector();
+        expected.checkThat("reason", 20, equalTo(1));
+        o2T.stackless().checkThat("reason", 20, equalTo(1));
+
+        AssertionError actual = assertThrows(AssertionError.class, () -> o2T.afterEach(null));
+        assertThat(actual.getMessage(), equalTo(expected.getErrorTexts().get(0)));
+        assertThat(actual.getStackTrace().length, is(1));
+        assertThat(actual.getStackTrace()[0].getClassName(), equalTo(ErrorCollectorTest.class.getName()));
+        assertThat(actual.getStackTrace()[0].getMethodName(), equalTo("testCheckThat_stackless_throws_assertionErrorOfCaller"));
+    }
+
+    @Test
+    public void testCheckThat_stacklessWithMatch_collects_nothing() {
+        o2T.stackless().checkThat(10, equalTo(10));
+
+        assertThat(o2T.isStackless(), is(true));
+        assertThat(o2T.hasErrors(), is(false));
+    }
+
+    @Test
+    public void testCheckThat_stacklessWithFailingMatcher_collects_exception() {
+        IllegalStateException expected = new IllegalStateException("matcher");
+        o2T.stackless().checkThat(10, new CustomMatcher<Integer>("failing") {
+            @Override
+            public boolean matches(Object actual) {
+                throw expected;
+            }
+        });
+
+        List<Throwable> actual = new ArrayList<>();
+        o2T.forEachError(actual::add);
+        assertThat(actual, contains(sameInstance(expected)));
+    }
+
+    @Test
+    public void testCheckThat_stacklessBeyondLimit_summarize_records() {
+        o2T = new ErrorCollector(1, 1).stackless();
+        for (int i = 0; i < 4; i++) {
+            o2T.checkThat("row " + i, i, equalTo(-1));
+        }
+
+        List<Throwable> actual = new ArrayList<>();
+        o2T.forEachError(actual::add);
+        assertThat(actual, hasSize(3));
+        assertThat(actual.get(0), instanceOf(AssertionError.class));
+        assertThat(actual.get(1), instanceOf(AssertionError.class));
+        assertThat(actual.get(2).getMessage(), startsWith("2 more similar failures: java.lang.AssertionError: row #"));
+    }
+
+    @Test
+    public void testCheckAll_withIterable_collects_failingIndices() {
+        o2T.checkAll(List.of(1, 2, 1, 3), equalTo(1));
+
+        List<String> texts = o2T.getErrorTexts().stream().map(text -> text.split("\n")[0]).collect(Collectors.toList());
+        assertThat(texts, contains("[index 1]", "[index 3]"));
+        assertThat(o2T.getErrorTexts().get(0), endsWith("but: was <2>"));
+    }
+
+    @Test
+    public void testCheckAll_withStream_consumes_lazily() {
+        AtomicLong read = new AtomicLong();
+
+        o2T.checkAll(Stream.iterate(0, i -> i + 1).peek(i -> read.incrementAndGet()).limit(ROWS), lessThan(ROWS - 1));
+
+        assertThat(read.get(), is((long) ROWS));
+        assertThat(o2T.getErrorTexts(), hasSize(1));
+        assertThat(o2T.getErrorTexts().get(0), startsWith("[index " + (ROWS - 1) + "]"));
+    }
+
+    @Test
+    public void testCheckAll_withFailingMatcher_collects_exception() {
+        o2T.checkAll(Stream.of(1, 2), new CustomMatcher<Integer>("failing") {
+            @Override
+            public boolean matches(Object actual) {
+                throw new IllegalStateException("value " + actual);
+            }
+        });
+
+        assertThat(o2T.getErrorTexts(), contains("[index 0] java.lang.IllegalStateException: value 1", "[index 1] java.lang.IllegalStateException: value 2"));
+    }
+
+    @Test
+    public void testCheckAll_withPool_collects_failuresInOrder() {
+        ForkJoinPool pool = new ForkJoinPool(THREADS);
+        try {
+            o2T.checkAll(IntStream.range(0, ROWS).boxed(), not(oneOf(100, 5_000, ROWS - 1)), pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        List<String> texts = o2T.getErrorTexts().stream().map(text -> text.split("\n")[0]).collect(Collectors.toList());
+        assertThat(texts, contains("[index 100]", "[index 5000]", "[index " + (ROWS - 1) + "]"));
+    }
+
+    @Test
+    public void testCheckAll_withPool_holds_fewBatches() {
+        AtomicLong read = new AtomicLong();
+        AtomicLong checked = new AtomicLong();
+        AtomicLong maxAhead = new AtomicLong();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            o2T.checkAll(Stream.generate(read::incrementAndGet).limit(ROWS), new CustomMatcher<Long>("counting") {
+                @Override
+                public boolean matches(Object actual) {
+                    maxAhead.accumulateAndGet(read.get() - checked.incrementAndGet(), Math::max);
+                    return true;
+                }
+            }, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(checked.get(), is((long) ROWS));
+        assertThat(maxAhead.get(), lessThan(8L * 1024));
+        assertThat(o2T.hasErrors(), is(false));
+    }
+
+    @Test
+    public void testCheckSucceedsAsync_manySlowChecks_runConcurrently() throws Exception {
+        CountDownLatch allStarted = new CountDownLatch(THREADS);
+        for (int i = 0; i < THREADS; i++) {
+            final int check = i;
+            o2T.checkSucceedsAsync(() -> {
+                allStarted.countDown();
+                // only returns, if all checks run at the same time
+                assertThat(allStarted.await(10, TimeUnit.SECONDS), is(true));
+                assertThat("check " + check, check % 2, equalTo(0));
+                return check;
+            });
+        }
+
+        o2T.afterTestExecution(null);
+        List<String> messages = o2T.getErrorTexts().stream().map(m -> m.split("\n")[0]).collect(Collectors.toList());
+        assertThat(messages, contains("check 1", "check 3", "check 5", "check 7"));
+    }
+
+    @Test
+    public void testCheckSucceedsAsync_failure_pointsToCaller() {
+        IllegalStateException expected = new IllegalStateException("async");
+        o2T.checkSucceedsAsync(() -> {
+            throw expected;
+        });
+
+        o2T.joinAsyncChecks();
+        List<Throwable> actual = new ArrayList<>();
+        o2T.forEachError(actual::add);
+        assertThat(actual, contains(sameInstance(expected)));
+        StackTraceElement origin = expected.getSuppressed()[0].getStackTrace()[0];
+        assertThat(origin.getMethodName(), equalTo("testCheckSucceedsAsync_failure_pointsToCaller"));
+    }
+
+    @Test
+    public void testJoinAsyncChecks_beyondTimeout_cancels_andPointsToCaller() throws Exception {
+        CountDownLatch cancelled = new CountDownLatch(1);
+        o2T.asyncTimeout(Duration.ofMillis(100));
+        o2T.checkSucceedsAsync(() -> 1);
+        o2T.checkSucceedsAsync(() -> {
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                cancelled.countDown();
+            }
+            return 2;
+        });
+
+        o2T.joinAsyncChecks();
+        List<Throwable> actual = new ArrayList<>();
+        o2T.forEachError(actual::add);
+        assertThat(actual, hasSize(1));
+        assertThat(actual.get(0), instanceOf(TimeoutException.class));
+        assertThat(actual.get(0).getMessage(), equalTo(String.format(AsyncChecks.TIMED_OUT, Duration.ofMillis(100))));
+        StackTraceElement origin = actual.get(0).getSuppressed()[0].getStackTrace()[0];
+        assertThat(origin.getMethodName(), equalTo("testJoinAsyncChecks_beyondTimeout_cancels_andPointsToCaller"));
+        assertThat(cancelled.await(10, TimeUnit.SECONDS), is(true));
+    }
+
+    @Test
+    public void testAsyncTimeout_notPositive_throws_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> o2T.asyncTimeout(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> o2T.asyncTimeout(Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> o2T.asyncTimeout(null));
+        assertThat(o2T.getAsyncTimeout(), equalTo(ErrorCollector.DEFAULT_ASYNC_TIMEOUT));
+    }
+
+    @Test
+    public void testCheckThatAsync_failures_inOrderOfSubmission() throws Exception {
+        for (int i = 0; i < PER_THREAD; i++) {
+            o2T.checkThatAsync("row " + i, i, lessThan(PER_THREAD - 2));
+        }
+        o2T.checkThatAsync(1, equalTo(1));
+
+        AssertionError actual = assertThrows(MultipleFailuresError.class, () -> {
+            o2T.afterTestExecution(null);
+            o2T.afterEach(null);
+        });
+        List<Throwable> failures = ((MultipleFailuresError) actual).getFailures();
+        assertThat(failures, hasSize(2));
+        assertThat(failures.get(0).getMessage(), startsWith("row " + (PER_THREAD - 2)));
+        assertThat(failures.get(1).getStackTrace()[0].getMethodName(), equalTo("testCheckThatAsync_failures_inOrderOfSubmission"));
+    }
+
+    @Test
+    public void testAfterEach_parallelTests_reports_ownErrors() throws Exception {
+        ExtensionContext contextA = mockContext();
+        ExtensionContext contextB = mockContext();
+        CyclicBarrier allChecked = new CyclicBarrier(2);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<Throwable> testA = pool.submit(() -> runTest(contextA, 3, allChecked));
+            Future<Throwable> testB = pool.submit(() -> runTest(contextB, 5, allChecked));
+
+            assertThat(((MultipleFailuresError) testA.get(30, TimeUnit.SECONDS)).getFailures(), hasSize(3));
+            assertThat(((MultipleFailuresError) testB.get(30, TimeUnit.SECONDS)).getFailures(), hasSize(5));
+        } finally {
+            pool.shutdown();
+        }
+        assertThat(o2T.hasErrors(), is(false));
+    }
+
+    @Test
+    public void testAfterAll_withContext_reports_errorsOfUnboundThreads() throws Exception {
+        ExtensionContext classContext = mockContext();
+        ExtensionContext context = mockContext();
+        ExecutorService foreign = Executors.newSingleThreadExecutor();
+        try {
+            // started before the test, so not bound to it
+            foreign.submit(() -> o2T.getErrorSize()).get();
+            o2T.beforeAll(classContext);
+            o2T.beforeEach(context);
+            foreign.submit(() -> o2T.checkThat("unbound", 1, equalTo(2))).get();
+            o2T.checkThat("own", 3, equalTo(4));
+            assertThat(o2T.getErrorSize(), is(2));
+            assertThat(foreign.submit(() -> o2T.getErrorSize()).get(), is(1));
+
+            AssertionError own = assertThrows(AssertionError.class, () -> o2T.afterEach(context));
+            assertThat(own.getMessage(), startsWith("own"));
+            AssertionError unbound = assertThrows(AssertionError.class, () -> o2T.afterAll(classContext));
+            assertThat(unbound.getMessage(), startsWith("unbound"));
+            assertThat(o2T.hasErrors(), is(false));
+            assertDoesNotThrow(() -> o2T.afterAll(classContext));
+        } finally {
+            foreign.shutdown();
+        }
+    }
+
+    @Test
+    public void testAfterEach_instanceCollectorWithContext_reports_errorsOfUnboundThreads() throws Exception {
+        ExtensionContext context = mockContext();
+        ExecutorService foreign = Executors.newSingleThreadExecutor();
+        try {
+            foreign.submit(() -> o2T.getErrorSize()).get();
+            o2T.beforeEach(context);
+            foreign.submit(() -> o2T.checkThat(1, equalTo(2))).get();
+            o2T.checkThat(3, equalTo(4));
+
+            MultipleFailuresError actual = assertThrows(MultipleFailuresError.class, () -> o2T.afterEach(context));
+            assertThat(actual.getFailures(), hasSize(2));
+            assertThat(o2T.hasErrors(), is(false));
+        } finally {
+            foreign.shutdown();
+        }
+    }
+
+    @Test
+    public void testAfterAll_beyondLimit_drains_everyError() throws Exception {
+        ExtensionContext classContext = mockContext();
+        o2T = new ErrorCollector(1, 1);
+        o2T.beforeAll(classContext);
+        for (int i = 0; i < 5; i++) {
+            o2T.checkThat("row " + i, i, equalTo(-1));
+        }
+
+        MultipleFailuresError actual = assertThrows(MultipleFailuresError.class, () -> o2T.afterAll(classContext));
+        List<String> messages = actual.getFailures().stream().map(Throwable::getMessage).map(m -> m.split("\n")[0]).collect(Collectors.toList());
+        assertThat(messages, contains("row 0", "row 1", "3 more similar failures: java.lang.AssertionError: row #"));
+        assertThat(o2T.getErrorSize(), is(0));
+        assertThat(o2T.hasErrors(), is(false));
+    }
+
+    @Test
+    public void testExportErrors_toWriter_writes_oneLinePerError() throws IOException {
+        o2T.addError(new IllegalStateException("first"));
+        o2T.stackless().checkThat("second", 2, equalTo(1));
+
+        StringWriter writer = new StringWriter();
+        long actual = o2T.exportErrors(writer);
+
+        assertThat(actual, is(2L));
+        String[] lines = writer.toString().split("\n");
+        assertThat(lines.length, is(2));
+        assertThat(lines[0], startsWith("{\"index\":0,\"type\":\"java.lang.IllegalStateException\",\"message\":\"first\""));
+        assertThat(lines[1], startsWith("{\"index\":1,\"type\":\"java.lang.AssertionError\",\"message\":\"second\\n"));
+        assertThat(lines[1], containsString("ErrorCollectorTest.testExportErrors_toWriter_writes_oneLinePerError(ErrorCollectorTest.java:"));
+    }
+
+    @Test
+    public void testExportErrors_toChannel_writes_utf8() throws IOException {
+        o2T.addError(new IllegalStateException("\u00e4rger"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        o2T.exportErrors(Channels.newChannel(bytes));
+
+        assertThat(bytes.toString(StandardCharsets.UTF_8), containsString("\"message\":\"\u00e4rger\""));
+    }
+
+    @Test
+    public void testGetErrorTextsToString_return_joinedTexts() {
+        o2T.addError(new IllegalStateException("first"));
+        o2T.addError(new IllegalStateException());
+
+        assertThat(o2T.getErrorTextsToString(), equalTo("first\n" + IllegalStateException.class.getName()));
+    }
+
+    @Test
+    public void testCheckThat_deduplicate_keeps_firstOfSameFailure() {
+        o2T.deduplicate();
+        for (int i = 0; i < PER_THREAD; i++) {
+            o2T.checkThat("row " + i, i, equalTo(-1));
+        }
+        o2T.checkThat("other", 1, lessThan(0));
+
+        assertThat(o2T.isDeduplicate(), is(true));
+        assertThat(o2T.getErrorSize(), is(PER_THREAD + 1));
+        List<String> texts = o2T.getErrorTexts();
+        assertThat(texts, hasSize(2));
+        assertThat(texts.get(0), startsWith("row 0"));
+        assertThat(texts.get(0), containsString(String.format("repeated %d times, at: row 1, row 2, ", PER_THREAD - 1)));
+        assertThat(texts.get(0), endsWith(String.format("and %d more", PER_THREAD - 1 - FailureRecord.MAX_REPEAT_REASONS)));
+        assertThat(texts.get(1), startsWith("other"));
+    }
+
+    @Test
+    public void testCheckThat_deduplicateBeyondLimit_counts_everyRepeat() {
+        o2T = new ErrorCollector(1, 0).deduplicate();
+        o2T.addError(new IllegalStateException("first"));
+        for (int i = 0; i < PER_THREAD; i++) {
+            o2T.checkThat("row " + i, i, equalTo(-1));
+        }
+
+        assertThat(o2T.getErrorSize(), is(PER_THREAD + 1));
+        assertThat(o2T.getErrorTexts(), contains(equalTo("first"),
+                startsWith(String.format("%d more similar failures: java.lang.AssertionError: row #", PER_THREAD))));
+    }
+
+    @Test
+    public void testCheckThat_deduplicateWithLimit_keeps_repeatsOfKeptFailure() {
+        o2T = new ErrorCollector(1, 1).deduplicate();
+        for (int i = 0; i < PER_THREAD; i++) {
+            o2T.checkThat("row " + i, i, equalTo(-1));
+            o2T.checkThat("other " + i, 1, lessThan(0));
+        }
+
+        assertThat(o2T.getErrorSize(), is(2 * PER_THREAD));
+        List<String> texts = o2T.getErrorTexts();
+        assertThat(texts, hasSize(3));
+        assertThat(texts.get(0), containsString(String.format("repeated %d times", PER_THREAD - 1)));
+        assertThat(texts.get(1), startsWith("other 0"));
+        assertThat(texts.get(2), startsWith(String.format("%d more similar failures", PER_THREAD - 1)));
+    }
+
+    @Test
+    public void testCheckAll_deduplicateWithPool_keeps_firstOfSameFailure() {
+        o2T.deduplicate();
+        ForkJoinPool pool = new ForkJoinPool(THREADS);
+        try {
+            o2T.checkAll(IntStream.range(1, ROWS + 1).boxed(), lessThan(0), pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertThat(o2T.getErrorSize(), is(ROWS));
+        MultipleFailuresError actual = assertThrows(MultipleFailuresError.class, () -> {
+            o2T.addError(new IllegalStateException("other"));
+            o2T.afterEach(null);
+        });
+        assertThat(actual.getFailures(), hasSize(2));
+        assertThat(actual.getFailures().get(0).getMessage(), containsString(String.format("repeated %d times, at: [index 1], ", ROWS - 1)));
+    }
+
+    private Throwable runTest(ExtensionContext context, int failures, CyclicBarrier allChecked) throws Exception {
+        o2T.beforeEach(context);
+        for (int i = 0; i < failures; i++) {
+            o2T.checkThat(i, equalTo(-1));
+        }
+        allChecked.await(30, TimeUnit.SECONDS);
+        assertThat(o2T.getErrorSize(), is(failures));
+        try {
+            o2T.afterEach(context);
+            return null;
+        } catch (MultipleFailuresError e) {
+            return e;
+        }
+    }
+
+    private static ExtensionContext mockContext() {
+        ExtensionContext context = mock(ExtensionContext.class);
+        ExtensionContext.Store store = new MapStore();
+        when(context.getStore(any())).thenReturn(store);
+        when(context.getTestInstance()).thenReturn(Optional.empty());
+        doReturn(ErrorCollectorTest.class).when(context).getRequiredTestClass();
+        return context;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The store of a single test.
+     */
+    private static class MapStore implements ExtensionContext.Store {
+
+        private final Map<Object, Object> values = new ConcurrentHashMap<>();
+
+        @Override
+        public Object get(Object key) {
+            return values.get(key);
+        }
+
+        @Override
+        public <V> V get(Object key, Class<V> requiredType) {
+            return requiredType.cast(values.get(key));
+        }
+
+        @Override
+        public <K, V> Object getOrComputeIfAbsent(K key, Function<K, V> defaultCreator) {
+            return values.computeIfAbsent(key, k -> defaultCreator.apply(key));
+        }
+
+        @Override
+        public <K, V> V getOrComputeIfAbsent(K key, Function<K, V> defaultCreator, Class<V> requiredType) {
+            return requiredType.cast(getOrComputeIfAbsent(key, defaultCreator));
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            values.put(key, value);
+        }
+
+        @Override
+        public Object remove(Object key) {
+            return values.remove(key);
+        }
+
+        @Override
+        public <V> V remove(Object key, Class<V> requiredType) {
+            return requiredType.cast(values.remove(key));
+        }
+    }
+}
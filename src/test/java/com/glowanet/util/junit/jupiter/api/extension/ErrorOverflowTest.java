@@ -0,0 +1,58 @@
+package com.glowanet.util.junit.jupiter.api.extension;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+/**
+ * @see ErrorOverflow
+ */
+public class ErrorOverflowTest {
+
+    @Test
+    public void testTemplateOf_withValuesAndNumbers_return_placeholders() {
+        String actual = ErrorOverflow.templateOf(new AssertionError("row 12\nExpected: <\"a\">\n     but: was \"b 3\""));
+
+        assertThat(actual, equalTo("java.lang.AssertionError: row #\nExpected: <?>\n     but: was <?>"));
+    }
+
+    @Test
+    public void testTemplateOf_withoutMessage_return_type() {
+        assertThat(ErrorOverflow.templateOf(new IllegalStateException()), equalTo(IllegalStateException.class.getName()));
+    }
+
+    @Test
+    public void testForEach_return_exemplarsAndSummaryPerGroup() {
+        ErrorOverflow o2T = new ErrorOverflow(1);
+        IllegalStateException first = new IllegalStateException("value 1");
+        IllegalArgumentException other = new IllegalArgumentException("value 1");
+        o2T.add(first);
+        o2T.add(other);
+        o2T.add(new IllegalStateException("value 2"));
+        o2T.add(new IllegalStateException("value 3"));
+
+        List<Throwable> actual = new ArrayList<>();
+        o2T.forEach(actual::add);
+
+        assertThat(actual, hasSize(3));
+        assertThat(actual.get(0), sameInstance(first));
+        assertThat(actual.get(1).getMessage(), equalTo(String.format(ErrorOverflow.SIMILAR_FAILURES, 2, "java.lang.IllegalStateException: value #")));
+        assertThat(actual.get(2), sameInstance(other));
+    }
+
+    @Test
+    public void testClear_return_empty() {
+        ErrorOverflow o2T = new ErrorOverflow(1);
+        o2T.add(new IllegalStateException());
+
+        o2T.clear();
+        assertThat(o2T.isEmpty(), is(true));
+    }
+}
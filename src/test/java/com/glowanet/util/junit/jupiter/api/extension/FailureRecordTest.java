@@ -0,0 +1,59 @@
+package com.glowanet.util.junit.jupiter.api.extension;
+
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @see FailureRecord
+ */
+public class FailureRecordTest {
+
+    @Test
+    public void testGetMessage_return_messageOfAssertThat() {
+        AssertionError expected = assertThrows(AssertionError.class, () -> MatcherAssert.assertThat("reason", 2, equalTo(1)));
+
+        FailureRecord o2T = FailureRecord.of("reason", 2, equalTo(1));
+
+        assertThat(o2T.getMessage(), equalTo(expected.getMessage()));
+        assertThat(o2T.getStackTrace().length, is(0));
+    }
+
+    @Test
+    public void testToAssertionError_withoutCaller_return_errorWithMessage() {
+        FailureRecord o2T = FailureRecord.of("reason", 2, equalTo(1));
+
+        AssertionError actual = o2T.toAssertionError();
+
+        assertThat(actual.getMessage(), equalTo(o2T.getMessage()));
+        assertThat(o2T.getCaller().orElse(null), nullValue());
+    }
+
+    @Test
+    public void testGetDuplicateKey_sameMismatchTemplate_return_sameKey() {
+        FailureRecord o2T = FailureRecord.of("row 1", 2, equalTo(1));
+
+        assertThat(o2T.getDuplicateKey(), equalTo(FailureRecord.of("row 2", 3, equalTo(1)).getDuplicateKey()));
+        assertThat(o2T.getDuplicateKey(), not(equalTo(FailureRecord.of("row 2", 3, equalTo(4)).getDuplicateKey())));
+    }
+
+    @Test
+    public void testAddRepeat_return_messageWithReferences() {
+        FailureRecord o2T = FailureRecord.of("row 1", 2, equalTo(1));
+        String message = o2T.getMessage();
+
+        o2T.addRepeat(FailureRecord.of("row 2", 3, equalTo(1)));
+        o2T.addRepeat(FailureRecord.of("row 3", 4, equalTo(1)));
+
+        assertThat(o2T.getRepeatCount(), is(2L));
+        assertThat(o2T.getMessage(), equalTo(message + String.format("%n  repeated 2 times, at: row 2, row 3")));
+        assertThat(o2T.toAssertionError().getMessage(), endsWith("at: row 2, row 3"));
+    }
+}
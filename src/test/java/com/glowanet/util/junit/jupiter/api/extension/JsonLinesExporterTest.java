@@ -0,0 +1,80 @@
+package com.glowanet.util.junit.jupiter.api.extension;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @see JsonLinesExporter
+ */
+public class JsonLinesExporterTest {
+
+    @Test
+    public void testWrite_withSpecialChars_return_escapedLine() {
+        StringWriter writer = new StringWriter();
+        IllegalStateException error = new IllegalStateException("a \"b\" \\c\nd\te\u0001");
+        error.setStackTrace(new StackTraceElement[]{new StackTraceElement("a.B", "c", "B.java", 4)});
+
+        JsonLinesExporter o2T = new JsonLinesExporter(writer);
+        o2T.write(error);
+
+        assertThat(writer.toString(), equalTo(
+                "{\"index\":0,\"type\":\"java.lang.IllegalStateException\",\"message\":\"a \\\"b\\\" \\\\c\\nd\\te\\u0001\",\"location\":\"a.B.c(B.java:4)\"}\n"));
+        assertThat(o2T.getCount(), is(1L));
+    }
+
+    @Test
+    public void testWrite_withoutMessageAndStackTrace_return_nulls() {
+        StringWriter writer = new StringWriter();
+        IllegalStateException error = new IllegalStateException();
+        error.setStackTrace(new StackTraceElement[0]);
+
+        new JsonLinesExporter(writer).write(error);
+
+        assertThat(writer.toString(), equalTo("{\"index\":0,\"type\":\"java.lang.IllegalStateException\",\"message\":null,\"location\":null}\n"));
+    }
+
+    @Test
+    public void testWrite_withRecord_return_assertionError() {
+        StringWriter writer = new StringWriter();
+
+        new JsonLinesExporter(writer).write(FailureRecord.of("reason", 2, equalTo(1)));
+
+        assertThat(writer.toString(), startsWith("{\"index\":0,\"type\":\"java.lang.AssertionError\",\"message\":\"reason\\nExpected: <1>"));
+        assertThat(writer.toString(), endsWith(",\"location\":null}\n"));
+    }
+
+    @Test
+    public void testWrite_withFailingWriter_throws_UncheckedIOException() {
+        Writer failing = new Writer() {
+            @Override
+            public void write(char[] cbuf, int off, int len) throws IOException {
+                throw new IOException("full");
+            }
+
+            @Override
+            public void flush() {
+                // nothing to flush
+            }
+
+            @Override
+            public void close() {
+                // nothing to close
+            }
+        };
+
+        JsonLinesExporter o2T = new JsonLinesExporter(failing);
+        IllegalStateException error = new IllegalStateException();
+        assertThrows(UncheckedIOException.class, () -> o2T.write(error));
+    }
+}
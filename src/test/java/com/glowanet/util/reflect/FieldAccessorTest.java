@@ -0,0 +1,132 @@
+package com.glowanet.util.reflect;
+
+import com.glowanet.data.SimplePojo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.glowanet.util.reflect.ReflectionHelperTest.CONST_FLOAT_NAME;
+import static com.glowanet.util.reflect.ReflectionHelperTest.CONST_FLOAT_VALUE;
+import static com.glowanet.util.reflect.ReflectionHelperTest.SIMPLE_INT_NAME;
+import static com.glowanet.util.reflect.ReflectionHelperTest.SIMPLE_INT_VALUE;
+import static com.glowanet.util.reflect.ReflectionHelperTest.SIMPLE_STRING_NAME;
+import static com.glowanet.util.reflect.ReflectionHelperTest.SIMPLE_STRING_VALUE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FieldAccessorTest {
+
+    public static class PrimitivePojo {
+        private long    simpleLong;
+        private double  simpleDouble;
+        private boolean simpleBoolean;
+    }
+
+    private SimplePojo pojo;
+
+    @BeforeEach
+    public void setUp() {
+        pojo = new SimplePojo();
+        pojo.setSimpleString(SIMPLE_STRING_VALUE);
+        pojo.setSimpleInt(SIMPLE_INT_VALUE);
+    }
+
+    private static FieldAccessor accessorOf(String fieldName) {
+        return FieldAccessor.of(ReflectionHelper.findField(fieldName, SimplePojo.class));
+    }
+
+    @Test
+    public void testOf_sameField_return_sameAccessor() {
+        FieldAccessor actual = accessorOf(SIMPLE_STRING_NAME);
+
+        assertThat(actual, sameInstance(accessorOf(SIMPLE_STRING_NAME)));
+    }
+
+    @Test
+    public void testGet_withInstance_return_value() {
+        assertThat(accessorOf(SIMPLE_STRING_NAME).get(pojo), equalTo(SIMPLE_STRING_VALUE));
+        assertThat(accessorOf(SIMPLE_INT_NAME).get(pojo), equalTo(SIMPLE_INT_VALUE));
+    }
+
+    @Test
+    public void testGet_withStaticFieldAndAnyInstance_return_value() {
+        assertThat(accessorOf(CONST_FLOAT_NAME).get(null), equalTo(CONST_FLOAT_VALUE));
+        assertThat(accessorOf(CONST_FLOAT_NAME).get(SimplePojo.class), equalTo(CONST_FLOAT_VALUE));
+    }
+
+    @Test
+    public void testGet_withWrongInstance_throws_ClassCastException() {
+        FieldAccessor o2T = accessorOf(SIMPLE_STRING_NAME);
+
+        assertThrows(ClassCastException.class, () -> o2T.get("different"));
+    }
+
+    @Test
+    public void testSet_withInstance_changeValue() {
+        accessorOf(SIMPLE_STRING_NAME).set(pojo, "changed");
+
+        assertThat(pojo.getSimpleString(), equalTo("changed"));
+    }
+
+    @Test
+    public void testSet_withNullForPrimitive_throws_NPE() {
+        FieldAccessor o2T = accessorOf(SIMPLE_INT_NAME);
+
+        assertThrows(NullPointerException.class, () -> o2T.set(pojo, null));
+    }
+
+    @Test
+    public void testSet_withStaticFinal_throws_IllegalArgumentException() {
+        FieldAccessor o2T = accessorOf(CONST_FLOAT_NAME);
+
+        assertThrows(IllegalArgumentException.class, () -> o2T.set(null, 1f));
+        assertThat(SimplePojo.CONST_FLOAT, equalTo(CONST_FLOAT_VALUE));
+    }
+
+    @Test
+    public void testGetTyped_withIntField_return_value() {
+        FieldAccessor o2T = accessorOf(SIMPLE_INT_NAME);
+
+        assertThat(o2T.getInt(pojo), equalTo(SIMPLE_INT_VALUE));
+        assertThat(o2T.getLong(pojo), equalTo((long) SIMPLE_INT_VALUE));
+        assertThat(o2T.getDouble(pojo), equalTo((double) SIMPLE_INT_VALUE));
+    }
+
+    @Test
+    public void testGetTyped_withNotConvertibleField_throws_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> accessorOf(SIMPLE_INT_NAME).getBoolean(pojo));
+        assertThrows(IllegalArgumentException.class, () -> accessorOf(SIMPLE_STRING_NAME).getInt(pojo));
+    }
+
+    @Test
+    public void testSetTyped_withIntField_changeValue() {
+        FieldAccessor o2T = accessorOf(SIMPLE_INT_NAME);
+
+        o2T.setInt(pojo, SIMPLE_INT_VALUE + 1);
+        assertThat(pojo.getSimpleInt(), equalTo(SIMPLE_INT_VALUE + 1));
+    }
+
+    @Test
+    public void testSetTyped_withPrimitiveFields_changeValue() {
+        PrimitivePojo target = new PrimitivePojo();
+
+        FieldAccessor.of(ReflectionHelper.findField("simpleLong", PrimitivePojo.class)).setLong(target, 42L);
+        FieldAccessor.of(ReflectionHelper.findField("simpleDouble", PrimitivePojo.class)).setDouble(target, 4.2d);
+        FieldAccessor.of(ReflectionHelper.findField("simpleBoolean", PrimitivePojo.class)).setBoolean(target, true);
+        assertThat(target.simpleLong, equalTo(42L));
+        assertThat(target.simpleDouble, equalTo(4.2d));
+        assertThat(target.simpleBoolean, equalTo(true));
+
+        FieldAccessor.of(ReflectionHelper.findField("simpleDouble", PrimitivePojo.class)).setInt(target, 7);
+        assertThat(target.simpleDouble, equalTo(7d));
+    }
+
+    @Test
+    public void testSetTyped_withNotConvertibleField_throws_IllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> accessorOf(SIMPLE_INT_NAME).setLong(pojo, 1L));
+        assertThrows(IllegalArgumentException.class, () -> accessorOf(SIMPLE_INT_NAME).setBoolean(pojo, true));
+        assertThrows(IllegalArgumentException.class, () -> accessorOf(SIMPLE_STRING_NAME).setInt(pojo, 1));
+        assertThat(pojo.getSimpleInt(), equalTo(SIMPLE_INT_VALUE));
+    }
+}
@@ -0,0 +1,58 @@
+package com.glowanet.util.reflect;
+
+import com.glowanet.data.SimplePojo;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import static com.glowanet.util.reflect.ReflectionHelperTest.SIMPLE_INT_VALUE;
+import static com.glowanet.util.reflect.ReflectionHelperTest.SIMPLE_STRING_VALUE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GetterInvokerTest {
+
+    public static class ThrowingBean {
+        public String getBroken() throws Exception {
+            throw new Exception("broken");
+        }
+    }
+
+    @Test
+    public void testCompile_withGetter_return_value() throws NoSuchMethodException {
+        SimplePojo pojo = new SimplePojo();
+        pojo.setSimpleString(SIMPLE_STRING_VALUE);
+        pojo.setSimpleInt(SIMPLE_INT_VALUE);
+
+        Function<Object, Object> stringGetter = GetterInvoker.compile(SimplePojo.class.getMethod("getSimpleString"));
+        Function<Object, Object> intGetter = GetterInvoker.compile(SimplePojo.class.getMethod("getSimpleInt"));
+
+        assertThat(stringGetter.apply(pojo), equalTo(SIMPLE_STRING_VALUE));
+        assertThat(intGetter.apply(pojo), equalTo(SIMPLE_INT_VALUE));
+    }
+
+    @Test
+    public void testCompile_withJdkGetter_return_value() throws NoSuchMethodException {
+        Function<Object, Object> o2T = GetterInvoker.compile(Object.class.getMethod("getClass"));
+
+        assertThat(o2T.apply(SIMPLE_STRING_VALUE), equalTo(String.class));
+    }
+
+    @Test
+    public void testCompile_withThrowingGetter_throws_sameException() throws NoSuchMethodException {
+        Function<Object, Object> o2T = GetterInvoker.compile(ThrowingBean.class.getMethod("getBroken"));
+        ThrowingBean bean = new ThrowingBean();
+
+        Exception actual = assertThrows(Exception.class, () -> o2T.apply(bean));
+        assertThat(actual.getMessage(), equalTo("broken"));
+    }
+
+    @Test
+    public void testCompile_withNoGetter_throws_IllegalArgumentException() throws NoSuchMethodException {
+        Method method = String.class.getMethod("valueOf", int.class);
+
+        assertThrows(IllegalArgumentException.class, () -> GetterInvoker.compile(method));
+    }
+}
@@ -0,0 +1,63 @@
+package com.glowanet.util.reflect;
+
+import com.glowanet.data.SimplePojo;
+import org.junit.jupiter.api.Test;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ReflectionMetadataTest {
+
+    @Test
+    public void testOf_sameClazz_return_sameMetadata() {
+        ReflectionMetadata actual = ReflectionMetadata.of(SimplePojo.class);
+
+        assertThat(actual, sameInstance(ReflectionMetadata.of(SimplePojo.class)));
+    }
+
+    @Test
+    public void testField_withFieldName_return_cachedAccessibleField() {
+        ReflectionMetadata o2T = ReflectionMetadata.of(SimplePojo.class);
+
+        Field actual = o2T.field(ReflectionHelperTest.SIMPLE_STRING_NAME);
+
+        assertThat(actual, notNullValue());
+        assertThat(actual.canAccess(new SimplePojo()), is(true));
+        assertThat(actual, sameInstance(o2T.field(ReflectionHelperTest.SIMPLE_STRING_NAME)));
+    }
+
+    @Test
+    public void testField_withFieldNameNotFound_return_null() {
+        ReflectionMetadata o2T = ReflectionMetadata.of(SimplePojo.class);
+
+        assertThat(o2T.field(ReflectionHelperTest.NOT_FOUND), nullValue());
+        assertThat(o2T.field(ReflectionHelperTest.NOT_FOUND), nullValue());
+    }
+
+    @Test
+    public void testField_withFieldNameNull_throws_failure() {
+        ReflectionMetadata o2T = ReflectionMetadata.of(SimplePojo.class);
+
+        assertThrows(AssertionError.class, () -> o2T.field(null));
+    }
+
+    @Test
+    public void testGetters_return_cachedUnmodifiableList() {
+        ReflectionMetadata o2T = ReflectionMetadata.of(SimplePojo.class);
+
+        List<PropertyDescriptor> actual = o2T.getters();
+
+        assertThat(actual, hasSize(SimplePojo.GETTER_COUNT));
+        assertThat(actual, sameInstance(o2T.getters()));
+        assertThrows(UnsupportedOperationException.class, actual::clear);
+    }
+}
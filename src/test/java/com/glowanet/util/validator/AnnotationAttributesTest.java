@@ -0,0 +1,153 @@
+package com.glowanet.util.validator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class AnnotationAttributesTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @interface Nested {
+
+        String value();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @interface Attributes {
+
+        int size() default 1;
+
+        long length() default 2L;
+
+        double ratio() default 0.5;
+
+        char letter() default 'c';
+
+        boolean flag() default true;
+
+        String text() default "text";
+
+        String[] texts() default {"a", "b"};
+
+        int[] sizes() default {1, 2};
+
+        ElementType element() default ElementType.METHOD;
+
+        Class<?> type() default String.class;
+
+        Nested nested() default @Nested("nested");
+    }
+
+    @SuppressWarnings("unused")
+    private static class AttributesSample {
+
+        @Attributes
+        @Nested("nested")
+        void annotated() {
+            // only the annotations are used
+        }
+    }
+
+    private AnnotationAttributes o2T;
+    private Attributes           annotation;
+    private Nested               nested;
+
+    @BeforeEach
+    public void setUp() throws NoSuchMethodException {
+        o2T = AnnotationAttributes.of(Attributes.class);
+        annotation = AttributesSample.class.getDeclaredMethod("annotated").getAnnotation(Attributes.class);
+        nested = AttributesSample.class.getDeclaredMethod("annotated").getAnnotation(Nested.class);
+    }
+
+    @Test
+    public void testOf_return_sameAttributes() {
+        assertThat(AnnotationAttributes.of(Attributes.class), sameInstance(o2T));
+    }
+
+    @Test
+    public void testHas_withAttribute_return_true() {
+        assertThat(o2T.has("text"), is(true));
+    }
+
+    @Test
+    public void testHas_withPrefixOfAttribute_return_false() {
+        assertThat(o2T.has("tex"), is(false));
+    }
+
+    @Test
+    public void testValue_withAttribute_return_value() {
+        assertThat(o2T.value(annotation, "size"), equalTo(1));
+        assertThat(o2T.value(annotation, "element"), equalTo(ElementType.METHOD));
+    }
+
+    @Test
+    public void testValue_withMissingAttribute_return_null() {
+        assertThat(o2T.value(annotation, "missing"), nullValue());
+    }
+
+    @Test
+    public void testIsEqual_withNumbers_compare_value() {
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "size"), 1L), is(true));
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "length"), 2), is(true));
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "ratio"), 0.5f), is(true));
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "size"), 2L), is(false));
+    }
+
+    @Test
+    public void testIsEqual_withText_compare_text() {
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "text"), "text"), is(true));
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "text"), "tex"), is(false));
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "size"), "1"), is(true));
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "letter"), "c"), is(true));
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "flag"), Boolean.TRUE), is(true));
+    }
+
+    @Test
+    public void testIsEqual_withArrays_compare_elements() {
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "texts"), new String[]{"a", "b"}), is(true));
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "texts"), List.of("a", "b")), is(true));
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "texts"), List.of("a")), is(false));
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "sizes"), new int[]{1, 2}), is(true));
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "sizes"), new long[]{1L, 2L}), is(true));
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "sizes"), new int[]{2, 1}), is(false));
+        assertThat(AnnotationAttributes.isEqual(new String[]{"a"}, "a"), is(true));
+    }
+
+    @Test
+    public void testIsEqual_withEnum_compare_constantOrName() {
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "element"), ElementType.METHOD), is(true));
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "element"), "METHOD"), is(true));
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "element"), ElementType.FIELD), is(false));
+    }
+
+    @Test
+    public void testIsEqual_withClass_compare_clazzOrName() {
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "type"), String.class), is(true));
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "type"), "java.lang.String"), is(true));
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "type"), Object.class), is(false));
+    }
+
+    @Test
+    public void testIsEqual_withNestedAnnotation_compare_annotation() {
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "nested"), nested), is(true));
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "nested"), "nested"), is(false));
+    }
+
+    @Test
+    public void testIsEqual_withNull_return_false() {
+        assertThat(AnnotationAttributes.isEqual(o2T.value(annotation, "text"), null), is(false));
+    }
+}
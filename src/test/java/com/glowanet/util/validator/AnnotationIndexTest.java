@@ -0,0 +1,125 @@
+package com.glowanet.util.validator;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class AnnotationIndexTest {
+
+    private static final Class<AnnotationParameterValidatorTestAnnotation> ANNOTATION = AnnotationParameterValidatorTestAnnotation.class;
+
+    @Test
+    public void testOf_return_sameIndex() {
+        AnnotationIndex actual = AnnotationIndex.of(AnnotationParameterValidatorTestSample.class);
+
+        assertThat(actual, sameInstance(AnnotationIndex.of(AnnotationParameterValidatorTestSample.class)));
+    }
+
+    @Test
+    public void testAnnotation_withAnnotatedMethod_return_annotation() {
+        AnnotationParameterValidatorTestAnnotation actual = AnnotationIndex.of(AnnotationParameterValidatorTestSample.class)
+                .annotation(AnnotationParameterValidatorTestSample.METHOD_WITH_ANNOTATION, ANNOTATION);
+
+        assertThat(actual, notNullValue());
+        assertThat(actual.annotationKey(), equalTo(AnnotationParameterValidatorTestSample.parameterValue));
+    }
+
+    @Test
+    public void testAnnotation_withOverloadedMethod_return_annotationOfOverload() {
+        AnnotationParameterValidatorTestAnnotation actual = AnnotationIndex.of(AnnotationParameterValidatorTestSample.class)
+                .annotation(AnnotationParameterValidatorTestSample.METHOD_WITH_ANNOTATION, new Class<?>[]{String.class}, ANNOTATION);
+
+        assertThat(actual, notNullValue());
+        assertThat(actual.annotationKey(), equalTo(AnnotationParameterValidatorTestSample.overloadedValue));
+    }
+
+    @Test
+    public void testAnnotation_withMissingMethod_return_null() {
+        AnnotationParameterValidatorTestAnnotation actual = AnnotationIndex.of(AnnotationParameterValidatorTestSample.class)
+                .annotation("methodMissing", ANNOTATION);
+
+        assertThat(actual, nullValue());
+    }
+
+    @Test
+    public void testAnnotation_withMissingParameters_return_null() {
+        AnnotationParameterValidatorTestAnnotation actual = AnnotationIndex.of(AnnotationParameterValidatorTestSample.class)
+                .annotation(AnnotationParameterValidatorTestSample.METHOD_WITH_ANNOTATION, new Class<?>[]{Integer.class}, ANNOTATION);
+
+        assertThat(actual, nullValue());
+    }
+
+    @Test
+    public void testAnnotation_withNotAnnotatedMethod_return_null() {
+        AnnotationParameterValidatorTestAnnotation actual = AnnotationIndex.of(AnnotationParameterValidatorTestSample.class)
+                .annotation(AnnotationParameterValidatorTestSample.METHOD_NO_ANNOTATION, ANNOTATION);
+
+        assertThat(actual, nullValue());
+    }
+
+    @Test
+    public void testAnnotation_withCovariantOverride_return_annotationOfOverride() {
+        Deprecated actual = AnnotationIndex.of(CovariantSample.class).annotation("get", Deprecated.class);
+
+        assertThat(actual, notNullValue());
+        assertThat(actual.since(), equalTo("override"));
+    }
+
+    @Test
+    public void testOverloads_withOverloadedMethod_return_methodWithoutParametersFirst() {
+        List<Integer> actual = AnnotationIndex.of(AnnotationParameterValidatorTestSample.class)
+                .overloads(AnnotationParameterValidatorTestSample.METHOD_WITH_ANNOTATION).stream()
+                .map(Method::getParameterCount).collect(Collectors.toList());
+
+        assertThat(actual, contains(0, 1));
+    }
+
+    @Test
+    public void testOverloads_withMissingMethod_return_empty() {
+        assertThat(AnnotationIndex.of(AnnotationParameterValidatorTestSample.class).overloads("methodMissing"), empty());
+    }
+
+    @Test
+    public void testSignatureOf_withParameters_return_signature() {
+        String actual = AnnotationIndex.signatureOf("getCheese", new Class<?>[]{String.class, int.class});
+
+        assertThat(actual, is("getCheese(java.lang.String,int)"));
+    }
+
+    @Test
+    public void testSignatureOf_withoutParameters_return_signature() {
+        String actual = AnnotationIndex.signatureOf("getCheese", new Class<?>[0]);
+
+        assertThat(actual, is("getCheese()"));
+    }
+
+    @SuppressWarnings("unused")
+    private static class CovariantBase {
+
+        Annotation get() {
+            return null;
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static class CovariantSample extends CovariantBase {
+
+        @Override
+        @Deprecated(since = "override")
+        Deprecated get() {
+            return null;
+        }
+    }
+}
@@ -4,8 +4,6 @@ import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.invocation.InvocationOnMock;
-import org.mockito.stubbing.Answer;
 
 import java.lang.annotation.Annotation;
 
@@ -22,7 +20,7 @@ import static org.mockito.Mockito.when;
  * Important Notice:
  * <p>
  * This test must be done with Mockito,
- * due to limits on Easymock (no spy-ing, can't mock toString()-Method)!
+ * due to limits on Easymock (no spy-ing)!
  */
 public class AnnotationParameterValidatorTest {
 
@@ -53,17 +51,8 @@ public class AnnotationParameterValidatorTest {
         apv = spy(AnnotationParameterValidator.class);
 
         Annotation mockAnnotation = returnAnnotation == null ? null : mock(returnAnnotation);
-        if (mockAnnotation != null) {
-            Answer<?> toStringAnswer = new Answer<Object>() {
-
-                @Override
-                public Object answer(InvocationOnMock invocation) throws Throwable {
-                    Object newAnswer = invocation.callRealMethod();
-                    newAnswer = newAnswer + findAnnotationParameterKey + "=" + findAnnotationParameterValue;
-                    return newAnswer;
-                }
-            };
-            when(mockAnnotation.toString()).then(toStringAnswer);
+        if (mockAnnotation instanceof AnnotationParameterValidatorTestAnnotation) {
+            when(((AnnotationParameterValidatorTestAnnotation) mockAnnotation).annotationKey()).thenReturn(findAnnotationParameterValue);
         }
         when(apv.getAnnotation(any(), anyString(), any())).thenReturn(mockAnnotation);
     }
@@ -125,6 +114,28 @@ public class AnnotationParameterValidatorTest {
         verifyTestIsAnnotationParameter(expectedResult, returnAnnotation, overrideParameterKey);
     }
 
+    @Test
+    public void testIsAnnotationParameterWithPrefixOfValue() {
+        findAnnotationParameterValue = AnnotationParameterValidatorTestSample.parameterValue.substring(0, 4);
+
+        boolean actual = apv.isAnnotationParameter(clazzToCheck, findMethodName, findAnnotation, findAnnotationParameterKey, findAnnotationParameterValue);
+        assertThat(actual, Matchers.equalTo(false));
+    }
+
+    @Test
+    public void testIsAnnotationParameterWithPrefixOfKey() {
+        findAnnotationParameterKey = AnnotationParameterValidatorTestSample.parameterKey.substring(0, 4);
+
+        boolean actual = apv.isAnnotationParameter(clazzToCheck, findMethodName, findAnnotation, findAnnotationParameterKey, findAnnotationParameterValue);
+        assertThat(actual, Matchers.equalTo(false));
+    }
+
+    @Test
+    public void testIsAnnotationParameterWithRealAnnotation() {
+        boolean actual = apv.isAnnotationParameter(clazzToCheck, findMethodName, findAnnotation, findAnnotationParameterKey, findAnnotationParameterValue);
+        assertThat(actual, Matchers.equalTo(true));
+    }
+
     private void verifyTestIsAnnotationParameter(boolean expectedResult, Class<? extends Annotation> returnAnnotation, String overrideParameterKey) {
         prepareMock(returnAnnotation);
 
@@ -157,6 +168,22 @@ public class AnnotationParameterValidatorTest {
         verifyGetAnnotation(expectedMatcher);
     }
 
+    @Test
+    public void testGetAnnotationWithNullClazz() {
+        clazzToCheck = null;
+        Matcher<Annotation> expectedMatcher = nullValue(Annotation.class);
+
+        verifyGetAnnotation(expectedMatcher);
+    }
+
+    @Test
+    public void testGetAnnotationNotFoundMethod() {
+        findMethodName = "methodMissing";
+        Matcher<Annotation> expectedMatcher = nullValue(Annotation.class);
+
+        verifyGetAnnotation(expectedMatcher);
+    }
+
     private void verifyGetAnnotation(Matcher<Annotation> matcher) {
         Annotation actual = apv.getAnnotation(clazzToCheck, findMethodName, findAnnotation);
         assertThat(actual, matcher);
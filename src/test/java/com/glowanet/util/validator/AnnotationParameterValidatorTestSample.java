@@ -7,6 +7,7 @@ class AnnotationParameterValidatorTestSample {
     public static final String METHOD_WITH_INVISIBLE_ANNOTATION = "methodWithInvisibleAnnotation";
     public static final String parameterKey                     = "annotationKey";
     public static final String parameterValue                   = "annotationValue";
+    public static final String overloadedValue                  = "overloadedValue";
 
     public void methodNoAnnotation() {
         // Do nothing.
@@ -17,6 +18,11 @@ class AnnotationParameterValidatorTestSample {
         // Do still nothing.
     }
 
+    @AnnotationParameterValidatorTestAnnotation(annotationKey = overloadedValue)
+    public void methodWithAnnotation(String overloaded) {
+        // Do nothing, but with a parameter.
+    }
+
     @AnnotationParameterValidatorTestAnnotationInvisible
     public void methodWithInvisibleAnnotation() {
         // And still nothing to do.
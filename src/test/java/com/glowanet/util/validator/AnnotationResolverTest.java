@@ -0,0 +1,156 @@
+package com.glowanet.util.validator;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class AnnotationResolverTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Marker {
+
+        String value() default "";
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Marker("composed")
+    @interface Composed {
+
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Composed
+    @interface ComposedTwice {
+
+    }
+
+    @SuppressWarnings("unused")
+    interface ResolverInterface {
+
+        @Marker("interface")
+        void fromInterface();
+    }
+
+    @SuppressWarnings("unused")
+    static class ResolverBase implements ResolverInterface {
+
+        @Marker("base")
+        void fromBase() {
+            // only the annotation is used
+        }
+
+        @Marker("private")
+        private void privateInBase() {
+            // only the annotation is used
+        }
+
+        @Override
+        public void fromInterface() {
+            // not annotated
+        }
+    }
+
+    @SuppressWarnings("unused")
+    static class ResolverSample extends ResolverBase {
+
+        @Override
+        void fromBase() {
+            // not annotated, so the annotation of the base is found
+        }
+
+        void overloaded() {
+            // not annotated
+        }
+
+        @Marker("overload")
+        void overloaded(String text) {
+            // only the annotation is used
+        }
+
+        @Composed
+        void composed() {
+            // only the annotation is used
+        }
+
+        @ComposedTwice
+        void composedTwice() {
+            // only the annotation is used
+        }
+
+        void privateInBase() {
+            // not annotated, the private method of the base is not inherited
+        }
+    }
+
+    private String valueOf(String methodName) {
+        Marker actual = AnnotationResolver.resolve(ResolverSample.class, methodName, Marker.class);
+        assertThat(actual, notNullValue());
+        return actual.value();
+    }
+
+    @Test
+    public void testResolve_withMethodOfSuperclass_return_annotation() {
+        assertThat(valueOf("fromBase"), equalTo("base"));
+    }
+
+    @Test
+    public void testResolve_withMethodOfInterface_return_annotation() {
+        assertThat(valueOf("fromInterface"), equalTo("interface"));
+    }
+
+    @Test
+    public void testResolve_withOverload_return_annotation() {
+        assertThat(valueOf("overloaded"), equalTo("overload"));
+    }
+
+    @Test
+    public void testResolve_withComposedAnnotation_return_metaAnnotation() {
+        assertThat(valueOf("composed"), equalTo("composed"));
+    }
+
+    @Test
+    public void testResolve_withTwiceComposedAnnotation_return_metaAnnotation() {
+        assertThat(valueOf("composedTwice"), equalTo("composed"));
+    }
+
+    @Test
+    public void testResolve_withPrivateMethodOfSuperclass_return_null() {
+        assertThat(AnnotationResolver.resolve(ResolverSample.class, "privateInBase", Marker.class), nullValue());
+    }
+
+    @Test
+    public void testResolve_withMissingMethod_return_null() {
+        assertThat(AnnotationResolver.resolve(ResolverSample.class, "missing", Marker.class), nullValue());
+    }
+
+    @Test
+    public void testResolve_repeated_return_sameAnnotation() {
+        Marker actual = AnnotationResolver.resolve(ResolverSample.class, "composed", Marker.class);
+
+        assertThat(AnnotationResolver.resolve(ResolverSample.class, "composed", Marker.class), sameInstance(actual));
+    }
+
+    @Test
+    public void testResolve_sameMethodWithOtherAnnotationOrClazz_return_ownResult() {
+        assertThat(AnnotationResolver.resolve(ResolverSample.class, "composed", Composed.class), notNullValue());
+        assertThat(AnnotationResolver.resolve(ResolverSample.class, "composed", ComposedTwice.class), nullValue());
+        assertThat(AnnotationResolver.resolve(ResolverSample.class, "fromBase", Marker.class).value(), equalTo("base"));
+        assertThat(AnnotationResolver.resolve(ResolverInterface.class, "fromBase", Marker.class), nullValue());
+    }
+
+    @Test
+    public void testHierarchyOf_return_superclassesThenInterfaces() {
+        List<Class<?>> actual = AnnotationResolver.hierarchyOf(ResolverSample.class);
+
+        assertThat(actual, contains(ResolverSample.class, ResolverBase.class, Object.class, ResolverInterface.class));
+    }
+}
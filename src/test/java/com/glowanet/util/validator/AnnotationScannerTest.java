@@ -0,0 +1,128 @@
+package com.glowanet.util.validator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+public class AnnotationScannerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path classesDir;
+    private Path indexFile;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        classesDir = tempDir.resolve("classes");
+        indexFile = tempDir.resolve("index").resolve("annotation-index.bin");
+        copyClassFile(ClassFileParserTest.ParserSample.class, classesDir);
+        copyClassFile(AnnotationScannerTest.class, classesDir);
+    }
+
+    private static Path copyClassFile(Class<?> clazz, Path targetDir) throws IOException {
+        ByteBuffer classFile = ClassFileParserTest.classFileOf(clazz);
+        Path target = targetDir.resolve(clazz.getName().replace('.', '/') + ".class");
+        Files.createDirectories(target.getParent());
+        return Files.write(target, classFile.array());
+    }
+
+    private List<String> methodNamesOf(AnnotationScanner scanner, Class<? extends Annotation> annotationClazz) {
+        return scanner.methodsAnnotatedWith(annotationClazz).map(AnnotatedMethod::getMethodName).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testScan_withDirectory_return_annotatedMethods() {
+        AnnotationScanner o2T = AnnotationScanner.scan(null, List.of(classesDir));
+
+        assertThat(methodNamesOf(o2T, ClassFileParserTest.Marker.class), contains("annotated"));
+        assertThat(methodNamesOf(o2T, ClassFileParserTest.Nested.class), containsInAnyOrder("annotated", "pr\u00fcfe"));
+        assertThat(o2T.classesAnnotatedWith(ClassFileParserTest.Marker.class).collect(Collectors.toList()),
+                contains(ClassFileParserTest.ParserSample.class.getName()));
+        assertThat(o2T.getParsedCount(), equalTo(2));
+    }
+
+    @Test
+    public void testScan_withJar_return_annotatedMethods() throws IOException {
+        Path jar = tempDir.resolve("sample.jar");
+        try (FileSystem jarFileSystem = FileSystems.newFileSystem(URI.create("jar:" + jar.toUri()), Map.of("create", "true"))) {
+            copyClassFile(ClassFileParserTest.ParserSample.class, jarFileSystem.getPath("/"));
+        }
+
+        AnnotationScanner o2T = AnnotationScanner.scan(null, List.of(jar));
+
+        assertThat(methodNamesOf(o2T, ClassFileParserTest.Marker.class), contains("annotated"));
+        assertThat(o2T.getParsedCount(), equalTo(1));
+    }
+
+    @Test
+    public void testScan_withMissingRoot_return_nothing() {
+        AnnotationScanner o2T = AnnotationScanner.scan(indexFile, List.of(tempDir.resolve("missing")));
+
+        assertThat(o2T.methods().collect(Collectors.toList()), empty());
+        assertThat(Files.exists(indexFile), is(false));
+    }
+
+    @Test
+    public void testScan_withIndex_reuse_unchangedClassFiles() {
+        AnnotationScanner.scan(indexFile, List.of(classesDir));
+
+        AnnotationScanner o2T = AnnotationScanner.scan(indexFile, List.of(classesDir));
+
+        assertThat(Files.exists(indexFile), is(true));
+        assertThat(o2T.getParsedCount(), equalTo(0));
+        assertThat(o2T.getReusedCount(), equalTo(2));
+        assertThat(methodNamesOf(o2T, ClassFileParserTest.Nested.class), containsInAnyOrder("annotated", "pr\u00fcfe"));
+    }
+
+    @Test
+    public void testScan_withIndex_parse_changedClassFiles() throws IOException {
+        AnnotationScanner.scan(indexFile, List.of(classesDir));
+        Path changed = copyClassFile(ClassFileParserTest.ParserSample.class, classesDir);
+        Files.setLastModifiedTime(changed, FileTime.fromMillis(Files.getLastModifiedTime(changed).toMillis() + 2000));
+
+        AnnotationScanner o2T = AnnotationScanner.scan(indexFile, List.of(classesDir));
+
+        assertThat(o2T.getParsedCount(), equalTo(1));
+        assertThat(o2T.getReusedCount(), equalTo(1));
+    }
+
+    @Test
+    public void testScan_withBrokenIndex_parse_allClassFiles() throws IOException {
+        Files.createDirectories(indexFile.getParent());
+        Files.write(indexFile, new byte[]{1, 2, 3});
+
+        AnnotationScanner o2T = AnnotationScanner.scan(indexFile, List.of(classesDir));
+
+        assertThat(o2T.getParsedCount(), equalTo(2));
+        assertThat(AnnotationScanner.scan(indexFile, List.of(classesDir)).getReusedCount(), equalTo(2));
+    }
+
+    @Test
+    public void testScanClasspath_return_thisTest() {
+        AnnotationScanner o2T = AnnotationScanner.scanClasspath(null);
+
+        assertThat(o2T.classesAnnotatedWith(ClassFileParserTest.Marker.class).collect(Collectors.toList()),
+                contains(ClassFileParserTest.ParserSample.class.getName()));
+    }
+}
@@ -0,0 +1,144 @@
+package com.glowanet.util.validator;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ClassFileParserTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Marker {
+
+        String value() default "";
+
+        int[] sizes() default {};
+
+        ElementType element() default ElementType.METHOD;
+
+        Class<?> type() default Object.class;
+
+        Nested nested() default @Nested;
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Nested {
+
+        long value() default 0L;
+    }
+
+    @Retention(RetentionPolicy.CLASS)
+    @interface Invisible {
+
+    }
+
+    @Marker
+    @SuppressWarnings("unused")
+    static class ParserSample {
+
+        private static final long   LONG_CONSTANT   = 4711L;
+        private static final double DOUBLE_CONSTANT = 47.11;
+
+        private long value = LONG_CONSTANT;
+
+        @Marker(value = "text", sizes = {1, 2}, element = ElementType.FIELD, type = String.class, nested = @Nested(LONG_CONSTANT))
+        @Nested
+        void annotated(String text) {
+            value += (long) DOUBLE_CONSTANT;
+        }
+
+        @Invisible
+        void invisible() {
+            // only the annotation is used
+        }
+
+        @Nested
+        void pr\u00fcfe() {
+            // the name is not ASCII
+        }
+
+        void notAnnotated() {
+            // nothing to find
+        }
+    }
+
+    static ByteBuffer classFileOf(Class<?> clazz) throws IOException {
+        String resource = "/" + clazz.getName().replace('.', '/') + ".class";
+        try (InputStream in = clazz.getResourceAsStream(resource)) {
+            return ByteBuffer.wrap(in.readAllBytes());
+        }
+    }
+
+    @Test
+    public void testParse_withSample_return_className() throws IOException {
+        ClassFileAnnotations actual = ClassFileParser.parse(classFileOf(ParserSample.class));
+
+        assertThat(actual.getClassName(), equalTo(ParserSample.class.getName()));
+        assertThat(actual.getClassAnnotations(), containsInAnyOrder(Marker.class.getName()));
+    }
+
+    @Test
+    public void testParse_withSample_return_annotatedMethods() throws IOException {
+        List<String> actual = ClassFileParser.parse(classFileOf(ParserSample.class)).getMethods().stream()
+                .map(AnnotatedMethod::toString).collect(Collectors.toList());
+
+        assertThat(actual, containsInAnyOrder(
+                ParserSample.class.getName() + "#annotated(Ljava/lang/String;)V",
+                ParserSample.class.getName() + "#pr\u00fcfe()V"));
+    }
+
+    @Test
+    public void testParse_withAnnotatedMethod_return_allAnnotations() throws IOException {
+        AnnotatedMethod actual = ClassFileParser.parse(classFileOf(ParserSample.class)).getMethods().stream()
+                .filter(method -> "annotated".equals(method.getMethodName())).findFirst().orElseThrow();
+
+        assertThat(actual.getAnnotationNames(), containsInAnyOrder(Marker.class.getName(), Nested.class.getName()));
+        assertThat(actual.hasAnnotation(Marker.class), is(true));
+        assertThat(actual.hasAnnotation(Invisible.class), is(false));
+    }
+
+    @Test
+    public void testParse_withoutAnnotations_return_empty() throws IOException {
+        ClassFileAnnotations actual = ClassFileParser.parse(classFileOf(ClassFileParserTest.class));
+
+        assertThat(actual.getClassAnnotations(), empty());
+        assertThat(actual.getMethods().isEmpty(), is(false));
+    }
+
+    @Test
+    public void testParse_withoutMagic_throw_exception() {
+        ByteBuffer classFile = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> ClassFileParser.parse(classFile));
+        assertThat(actual.getMessage(), containsString("magic"));
+    }
+
+    @Test
+    public void testParse_withTruncatedFile_throw_exception() throws IOException {
+        ByteBuffer complete = classFileOf(ParserSample.class);
+        ByteBuffer classFile = ByteBuffer.wrap(Arrays.copyOf(complete.array(), complete.limit() / 2));
+
+        IllegalArgumentException actual = assertThrows(IllegalArgumentException.class, () -> ClassFileParser.parse(classFile));
+        assertThat(actual.getMessage(), containsString("truncated"));
+    }
+
+    @Test
+    public void testBinaryNameOf_withDescriptor_return_binaryName() {
+        assertThat(ClassFileParser.binaryNameOf("Lcom/glowanet/Cheese$Annotation;"), equalTo("com.glowanet.Cheese$Annotation"));
+    }
+}
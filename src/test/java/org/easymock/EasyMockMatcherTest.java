@@ -4,10 +4,16 @@ import com.glowanet.data.SimplePojo;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.nullValue;
 
 public class EasyMockMatcherTest {
 
+    interface PojoRepository {
+
+        boolean save(SimplePojo pojo);
+    }
+
     @Test
     public void testEqPrimaryId_initialization_return_mull() {
         final SimplePojo expectedInstance = new SimplePojo();
@@ -16,4 +22,26 @@ public class EasyMockMatcherTest {
         final SimplePojo actual = EasyMockMatcher.eqPrimaryId(expectedInstance, primIdFieldName);
         assertThat(actual, nullValue());
     }
+
+    @Test
+    public void testEqPrimaryId_withCompositeKey_match_sameKey() {
+        final SimplePojo expectedInstance = new SimplePojo();
+        expectedInstance.setSimpleInt(100);
+        expectedInstance.setSimpleString("key");
+        final SimplePojo sameKey = new SimplePojo();
+        sameKey.setSimpleInt(100);
+        sameKey.setSimpleString("key");
+        final SimplePojo otherKey = new SimplePojo();
+        otherKey.setSimpleInt(100);
+        otherKey.setSimpleString("otherKey");
+
+        final PojoRepository repository = EasyMock.createMock(PojoRepository.class);
+        EasyMock.expect(repository.save(EasyMockMatcher.eqPrimaryId(expectedInstance, "simpleInt", "simpleString"))).andReturn(true);
+        EasyMock.expect(repository.save(EasyMock.anyObject())).andReturn(false);
+        EasyMock.replay(repository);
+
+        assertThat(repository.save(otherKey), equalTo(false));
+        assertThat(repository.save(sameKey), equalTo(true));
+        EasyMock.verify(repository);
+    }
 }
@@ -0,0 +1,130 @@
+package org.easymock.internal.matchers;
+
+import com.glowanet.data.SimplePojo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class KeyExtractorTest {
+
+    static class Customer {
+
+        private final Long id;
+
+        Customer(Long id) {
+            this.id = id;
+        }
+    }
+
+    static class Order {
+
+        private final Customer customer;
+        private final int      number;
+
+        Order(Customer customer, int number) {
+            this.customer = customer;
+            this.number = number;
+        }
+
+        public String getLabel() {
+            return "order-" + number;
+        }
+
+        public boolean isOpen() {
+            return number > 0;
+        }
+
+        public Customer customer() {
+            return customer;
+        }
+    }
+
+    static class Item {
+
+        private final Order order;
+        private final int   position;
+
+        Item(Order order, int position) {
+            this.order = order;
+            this.position = position;
+        }
+    }
+
+    private Item item;
+
+    @BeforeEach
+    public void setUp() {
+        item = new Item(new Order(new Customer(42L), 7), 1);
+    }
+
+    @Test
+    public void testOf_return_sameExtractor() {
+        KeyExtractor o2T = KeyExtractor.of(Item.class, "order.customer.id");
+
+        assertThat(KeyExtractor.of(Item.class, "order.customer.id"), sameInstance(o2T));
+    }
+
+    @Test
+    public void testExtract_withField_return_value() {
+        assertThat(KeyExtractor.of(Item.class, "position").extract(item), equalTo(1));
+    }
+
+    @Test
+    public void testExtract_withPath_return_value() {
+        assertThat(KeyExtractor.of(Item.class, "order.customer.id").extract(item), equalTo(42L));
+    }
+
+    @Test
+    public void testExtract_withGetters_return_value() {
+        assertThat(KeyExtractor.of(Item.class, "order.label").extract(item), equalTo("order-7"));
+        assertThat(KeyExtractor.of(Item.class, "order.open").extract(item), equalTo(true));
+    }
+
+    @Test
+    public void testExtract_withNullSegment_return_null() {
+        Item withoutCustomer = new Item(new Order(null, 7), 1);
+
+        assertThat(KeyExtractor.of(Item.class, "order.customer.id").extract(withoutCustomer), nullValue());
+        assertThat(KeyExtractor.of(Item.class, "order.customer.id").extract(new Item(null, 1)), nullValue());
+    }
+
+    @Test
+    public void testExtract_withInheritedField_return_value() {
+        SimplePojo pojo = new SimplePojo() {
+        };
+        pojo.setSimpleInt(100);
+
+        assertThat(KeyExtractor.of(pojo.getClass(), "simpleInt").extract(pojo), equalTo(100));
+    }
+
+    @Test
+    public void testGetDescription_withPath_return_members() {
+        String actual = KeyExtractor.of(Item.class, "order.customer.id").getDescription();
+
+        assertThat(actual, containsString(Item.class.getName() + ".order -> "));
+        assertThat(actual, containsString(Customer.class.getName() + ".id"));
+    }
+
+    @Test
+    public void testOf_withUnknownSegment_throw_assertionError() {
+        AssertionError actual = assertThrows(AssertionError.class, () -> KeyExtractor.of(Item.class, "order.supplier.id"));
+
+        assertThat(actual.getMessage(), equalTo(String.format(KeyExtractor.UNKNOWN_KEY, Order.class.getName(), "supplier")));
+    }
+
+    @Test
+    public void testOf_withEmptySegment_throw_assertionError() {
+        assertThrows(AssertionError.class, () -> KeyExtractor.of(Item.class, "order..id"));
+    }
+
+    @Test
+    public void testOf_withNullPath_throw_assertionError() {
+        assertThrows(AssertionError.class, () -> KeyExtractor.of(Item.class, null));
+    }
+}
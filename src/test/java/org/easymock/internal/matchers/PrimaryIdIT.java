@@ -24,7 +24,7 @@ public class PrimaryIdIT extends PrimaryIdTest {
     public void testCreateObject_withNull_everythingIsNull() {
         Pattern pattern = Pattern.compile(".+\\w=null,.+\\w=null,.+\\w=null,.+\\w=null.+", Pattern.CASE_INSENSITIVE);
 
-        o2T = new PrimaryId<>(null, null);
+        o2T = new PrimaryId<>(null, (String) null);
 
         assertThat(o2T, notNullValue());
         assertThat(o2T.toString(), Matchers.matchesPattern(pattern));
@@ -10,6 +10,7 @@ import java.util.regex.Pattern;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class PrimaryIdTest {
 
@@ -60,7 +61,7 @@ public class PrimaryIdTest {
     public void testMatches_bothNull_return_false() {
         boolean expected = false;
 
-        o2T = new PrimaryId<>(null, null);
+        o2T = new PrimaryId<>(null, (String) null);
 
         boolean actual = o2T.matches(null);
 
@@ -84,13 +85,68 @@ public class PrimaryIdTest {
         Pattern pattern = Pattern.compile("null with null=<null>", Pattern.CASE_INSENSITIVE);
         StringBuffer actual = new StringBuffer();
 
-        o2T = new PrimaryId<>(null, null);
+        o2T = new PrimaryId<>(null, (String) null);
         o2T.appendTo(actual);
 
         assertThat(actual, notNullValue());
         assertThat(actual.toString(), Matchers.matchesPattern(pattern));
     }
 
+    @Test
+    public void testMatches_withCompositeKey_return_true() {
+        expectedInstance.setSimpleString("key");
+        actualInstanceSame.setSimpleString("key");
+
+        o2T = new PrimaryId<>(expectedInstance, expectedInstanceFieldName, "simpleString");
+
+        assertThat(o2T.matches(actualInstanceSame), Matchers.equalTo(true));
+    }
+
+    @Test
+    public void testMatches_withCompositeKeyOneDifferent_return_false() {
+        expectedInstance.setSimpleString("key");
+        actualInstanceSame.setSimpleString("otherKey");
+
+        o2T = new PrimaryId<>(expectedInstance, expectedInstanceFieldName, "simpleString");
+
+        assertThat(o2T.matches(actualInstanceSame), Matchers.equalTo(false));
+    }
+
+    @Test
+    public void testMatches_withKeyPath_compare_referencedKey() {
+        KeyExtractorTest.Item expectedItem = new KeyExtractorTest.Item(new KeyExtractorTest.Order(new KeyExtractorTest.Customer(42L), 7), 1);
+        KeyExtractorTest.Item sameCustomer = new KeyExtractorTest.Item(new KeyExtractorTest.Order(new KeyExtractorTest.Customer(42L), 8), 2);
+        KeyExtractorTest.Item otherCustomer = new KeyExtractorTest.Item(new KeyExtractorTest.Order(new KeyExtractorTest.Customer(43L), 7), 1);
+
+        PrimaryId<KeyExtractorTest.Item> primaryId = new PrimaryId<>(expectedItem, "order.customer.id");
+
+        assertThat(primaryId.matches(sameCustomer), Matchers.equalTo(true));
+        assertThat(primaryId.matches(otherCustomer), Matchers.equalTo(false));
+    }
+
+    @Test
+    public void testCreateObject_withoutKey_throw_AssertionError() {
+        AssertionError actual = assertThrows(AssertionError.class, () -> new PrimaryId<>(expectedInstance));
+
+        assertThat(actual.getMessage(), Matchers.equalTo(String.format(KeyExtractor.UNKNOWN_KEY, SimplePojo.class.getName(), "NULL")));
+    }
+
+    @Test
+    public void testCreateObject_withNullKeys_throw_AssertionError() {
+        assertThrows(AssertionError.class, () -> new PrimaryId<>(expectedInstance, (String[]) null));
+    }
+
+    @Test
+    public void testAppendTo_withCompositeKey() {
+        expectedInstance.setSimpleString("key");
+        StringBuffer actual = new StringBuffer();
+
+        o2T = new PrimaryId<>(expectedInstance, expectedInstanceFieldName, "simpleString");
+        o2T.appendTo(actual);
+
+        assertThat(actual.toString(), containsString(expectedInstanceFieldName + "=<" + expectedInstanceFieldValue + ">, simpleString=<key>"));
+    }
+
     @Test
     public void testToString_return_values() {
         Pattern pattern = Pattern.compile("^" + o2T.getClass().getSimpleName() + "." //
@@ -1,6 +1,7 @@
 package org.hamcrest;
 
 import com.glowanet.util.hamcrest.AbstractPublicTest;
+import org.hamcrest.annotation.EveryAnnotatedMethodHas;
 import org.hamcrest.annotation.HasMethodAnnotation;
 import org.hamcrest.annotation.HasMethodAnnotationParameter;
 import org.junit.jupiter.api.Test;
@@ -16,6 +17,12 @@ public class AnnotationMatchersTest extends AbstractPublicTest {
         verifyMatcher(HasMethodAnnotation.class);
     }
 
+    @Test
+    public void testEveryAnnotatedMethodHas_return_aMatcher() {
+        actual = AnnotationMatchers.everyAnnotatedMethodHas("", annotationClazz, annotationClazz);
+        verifyMatcher(EveryAnnotatedMethodHas.class);
+    }
+
     @Test
     public void testHasMethodAnnotationParameter_return_aMatcher() {
         String annotationParameterKey = "";
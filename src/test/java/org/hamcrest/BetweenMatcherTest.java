@@ -1,10 +1,15 @@
 package org.hamcrest;
 
 import com.glowanet.util.hamcrest.AbstractPublicTest;
+import org.hamcrest.core.DoubleBetween;
+import org.hamcrest.core.IntBetween;
 import org.hamcrest.core.IsBetween;
 import org.hamcrest.core.IsBetweenWithBound;
+import org.hamcrest.core.LongBetween;
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+
 /**
  * @see BetweenMatcher
  */
@@ -33,4 +38,30 @@ public class BetweenMatcherTest extends AbstractPublicTest {
         actual = BetweenMatcher.betweenWithBound(rangeFromTo);
         verifyMatcher(IsBetween.class);
     }
+
+    @Test
+    public void testBetweenPrimitive_return_aPrimitiveMatcher() {
+        verifyMatcher(BetweenMatcher.intBetween(1, 10), IntBetween.class);
+        verifyMatcher(BetweenMatcher.longBetween(1L, 10L), LongBetween.class);
+        verifyMatcher(BetweenMatcher.doubleBetween(1d, 10d), DoubleBetween.class);
+    }
+
+    @Test
+    public void testBetween_withUnboxedFloatAndShort_return_aGenericMatcher() {
+        float floatValue = 1.5f;
+        short shortValue = 3;
+
+        assertThat(floatValue, BetweenMatcher.between(1f, 2f));
+        assertThat(shortValue, BetweenMatcher.between((short) 1, (short) 5));
+        assertThat(floatValue, BetweenMatcher.betweenWithBound(1.5f, 2f));
+        assertThat(shortValue, BetweenMatcher.betweenWithBound((short) 1, (short) 3));
+        verifyMatcher(BetweenMatcher.between(1f, 2f), IsBetween.class);
+    }
+
+    @Test
+    public void testBetweenWithBoundPrimitive_return_aPrimitiveMatcher() {
+        verifyMatcher(BetweenMatcher.intBetweenWithBound(1, 10), IntBetween.class);
+        verifyMatcher(BetweenMatcher.longBetweenWithBound(1L, 10L), LongBetween.class);
+        verifyMatcher(BetweenMatcher.doubleBetweenWithBound(1d, 10d), DoubleBetween.class);
+    }
 }
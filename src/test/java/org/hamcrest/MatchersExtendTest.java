@@ -1,13 +1,19 @@
 package org.hamcrest;
 
 import com.glowanet.util.hamcrest.AbstractPublicTest;
+import org.hamcrest.annotation.EveryAnnotatedMethodHas;
 import org.hamcrest.annotation.HasMethodAnnotation;
 import org.hamcrest.annotation.HasMethodAnnotationParameter;
 import org.hamcrest.beans.HasSameValues;
+import org.hamcrest.core.DoubleBetween;
+import org.hamcrest.core.IntBetween;
 import org.hamcrest.core.IsBetween;
 import org.hamcrest.core.IsBetweenWithBound;
+import org.hamcrest.core.LongBetween;
 import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+
 /**
  * @see MatchersExtend
  */
@@ -37,12 +43,44 @@ public class MatchersExtendTest extends AbstractPublicTest {
         verifyMatcher(IsBetweenWithBound.class);
     }
 
+    @Test
+    public void testBetweenPrimitive_return_aPrimitiveMatcher() {
+        verifyMatcher(MatchersExtend.intBetween(1, 10), IntBetween.class);
+        verifyMatcher(MatchersExtend.longBetween(1L, 10L), LongBetween.class);
+        verifyMatcher(MatchersExtend.doubleBetween(1d, 10d), DoubleBetween.class);
+    }
+
+    @Test
+    public void testBetween_withUnboxedFloatAndShort_return_aGenericMatcher() {
+        float floatValue = 1.5f;
+        short shortValue = 3;
+
+        assertThat(floatValue, MatchersExtend.between(1f, 2f));
+        assertThat(shortValue, MatchersExtend.between((short) 1, (short) 5));
+        assertThat(floatValue, MatchersExtend.betweenWithBound(1.5f, 2f));
+        assertThat(shortValue, MatchersExtend.betweenWithBound((short) 1, (short) 3));
+        verifyMatcher(MatchersExtend.between(1f, 2f), IsBetween.class);
+    }
+
+    @Test
+    public void testBetweenWithBoundPrimitive_return_aPrimitiveMatcher() {
+        verifyMatcher(MatchersExtend.intBetweenWithBound(1, 10), IntBetween.class);
+        verifyMatcher(MatchersExtend.longBetweenWithBound(1L, 10L), LongBetween.class);
+        verifyMatcher(MatchersExtend.doubleBetweenWithBound(1d, 10d), DoubleBetween.class);
+    }
+
     @Test
     public void testHasMethodAnnotation_return_aMatcher() {
         actual = MatchersExtend.hasMethodAnnotation(methodName, annotationClazz);
         verifyMatcher(HasMethodAnnotation.class);
     }
 
+    @Test
+    public void testEveryAnnotatedMethodHas_return_aMatcher() {
+        actual = MatchersExtend.everyAnnotatedMethodHas("", annotationClazz, annotationClazz);
+        verifyMatcher(EveryAnnotatedMethodHas.class);
+    }
+
     @Test
     public void testHasMethodAnnotationParameter_return_aMatcher() {
         actual = MatchersExtend.hasMethodAnnotationParameter(methodName, annotationClazz, annotationParameterKey, annotationParameterValue);
@@ -0,0 +1,126 @@
+package org.hamcrest.annotation;
+
+import com.glowanet.util.validator.AnnotationScanner;
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+public class EveryAnnotatedMethodHasTest {
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Transactional {
+
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface Timed {
+
+    }
+
+    @SuppressWarnings("unused")
+    static class EveryAnnotatedMethodHasTestClazz {
+
+        @Transactional
+        @Timed
+        void timed() {
+            // only the annotations are used
+        }
+
+        @Transactional
+        void untimed() {
+            // only the annotations are used
+        }
+
+        @Timed
+        void onlyTimed() {
+            // only the annotations are used
+        }
+    }
+
+    private static AnnotationScanner scanner;
+
+    private final String packageName = EveryAnnotatedMethodHasTest.class.getPackageName();
+
+    @BeforeAll
+    public static void setUpClass() throws URISyntaxException {
+        Path testClasses = Path.of(EveryAnnotatedMethodHasTest.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        scanner = AnnotationScanner.scan(null, List.of(testClasses));
+    }
+
+    @Test
+    public void testMatches_withRequiredAnnotation_return_true() {
+        EveryAnnotatedMethodHas o2t = EveryAnnotatedMethodHas.everyAnnotatedMethodHas(packageName, Timed.class, Timed.class);
+
+        assertThat(o2t.matches(scanner), equalTo(true));
+    }
+
+    @Test
+    public void testMatches_withMissingAnnotation_return_false() {
+        EveryAnnotatedMethodHas o2t = EveryAnnotatedMethodHas.everyAnnotatedMethodHas(packageName, Transactional.class, Timed.class);
+
+        assertThat(o2t.matches(scanner), equalTo(false));
+    }
+
+    @Test
+    public void testMatches_withOtherPackage_return_true() {
+        EveryAnnotatedMethodHas o2t = EveryAnnotatedMethodHas.everyAnnotatedMethodHas(packageName + ".other", Transactional.class, Timed.class);
+
+        assertThat(o2t.matches(scanner), equalTo(true));
+    }
+
+    @Test
+    public void testMatches_withPrefixOfPackage_return_true() {
+        EveryAnnotatedMethodHas o2t = EveryAnnotatedMethodHas.everyAnnotatedMethodHas(packageName.substring(0, packageName.length() - 1),
+                Transactional.class, Timed.class);
+
+        assertThat(o2t.matches(scanner), equalTo(true));
+    }
+
+    @Test
+    public void testMatches_withNull_return_false() {
+        EveryAnnotatedMethodHas o2t = EveryAnnotatedMethodHas.everyAnnotatedMethodHas(packageName, Transactional.class, Timed.class);
+
+        assertThat(o2t.matches(null), equalTo(false));
+    }
+
+    @Test
+    public void testDescribeTo_description_isChanged() {
+        EveryAnnotatedMethodHas o2t = EveryAnnotatedMethodHas.everyAnnotatedMethodHas(packageName, Transactional.class, Timed.class);
+        Description description = new StringDescription();
+        o2t.describeTo(description);
+
+        assertThat(description.toString(), not(equalTo("")));
+    }
+
+    @Test
+    public void testDescribeMismatch_withViolation_description_containsMethod() {
+        EveryAnnotatedMethodHas o2t = EveryAnnotatedMethodHas.everyAnnotatedMethodHas(packageName, Transactional.class, Timed.class);
+        Description mismatchDescription = new StringDescription();
+        o2t.describeMismatch(scanner, mismatchDescription);
+
+        assertThat(mismatchDescription.toString(), containsString("1 methods are not annotated with"));
+        assertThat(mismatchDescription.toString(), containsString("#untimed()V"));
+        assertThat(mismatchDescription.toString(), not(containsString("#timed()V")));
+    }
+
+    @Test
+    public void testDescribeMismatch_withNullItem_description_isChanged() {
+        EveryAnnotatedMethodHas o2t = EveryAnnotatedMethodHas.everyAnnotatedMethodHas(packageName, Transactional.class, Timed.class);
+        Description mismatchDescription = new StringDescription();
+        o2t.describeMismatch(null, mismatchDescription);
+
+        assertThat(mismatchDescription.toString(), containsString("is not an AnnotationScanner"));
+    }
+}
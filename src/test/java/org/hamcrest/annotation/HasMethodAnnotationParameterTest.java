@@ -22,6 +22,8 @@ public class HasMethodAnnotationParameterTest {
 
         int parameterSize() default 0;
 
+        String parameterName() default "";
+
     }
 
     protected static class HasMethodAnnotationParameterTestClazz {
@@ -30,7 +32,7 @@ public class HasMethodAnnotationParameterTest {
             return true;
         }
 
-        @HasMethodAnnotationParameterTestAnnotation(parameterSize = 1)
+        @HasMethodAnnotationParameterTestAnnotation(parameterSize = 1, parameterName = "size1")
         public boolean methodWithAnnnotationTest() {
             return false;
         }
@@ -80,6 +82,31 @@ public class HasMethodAnnotationParameterTest {
         verifyMatches(true, o2tClazz, methodName, annotationClazz, annotationParameterKey, annotationParameterValue);
     }
 
+    @Test
+    public void testMatches_withOtherNumberType_annotationParameter_found() {
+        verifyMatches(true, o2tClazz, methodName, annotationClazz, annotationParameterKey, 1L);
+    }
+
+    @Test
+    public void testMatches_withWrongValue_annotationParameter_notFound() {
+        verifyMatches(false, o2tClazz, methodName, annotationClazz, annotationParameterKey, annotationParameterValueWrong);
+    }
+
+    @Test
+    public void testMatches_withPrefixOfValue_annotationParameter_notFound() {
+        verifyMatches(false, o2tClazz, methodName, annotationClazz, "parameterName", "size");
+    }
+
+    @Test
+    public void testMatches_withPrefixOfKey_annotationParameter_notFound() {
+        verifyMatches(false, o2tClazz, methodName, annotationClazz, "parameter", 1);
+    }
+
+    @Test
+    public void testMatches_withWrongKey_annotationParameter_notFound() {
+        verifyMatches(false, o2tClazz, methodName, annotationClazz, wrongAnnotationParameterKey, annotationParameterValue);
+    }
+
     @Test
     public void testDescribeTo_description_isChanged() {
         o2t = prepareMatcher(methodName, annotationClazz, annotationParameterKey, annotationParameterValue);
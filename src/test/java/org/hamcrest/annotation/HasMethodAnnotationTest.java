@@ -7,6 +7,8 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
 import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -28,6 +30,28 @@ public class HasMethodAnnotationTest {
         }
     }
 
+    protected static class HasMethodAnnotationTestSubClazz extends HasMethodAnnotationTestClazz {
+
+        @Override
+        boolean methodWithAnnnotation() {
+            return true;
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Disabled
+    protected @interface HasMethodAnnotationTestComposed {
+
+    }
+
+    protected static class HasMethodAnnotationTestComposedClazz {
+
+        @HasMethodAnnotationTestComposed
+        boolean methodWithAnnnotation() {
+            return false;
+        }
+    }
+
     protected       HasMethodAnnotation<?>       o2t;
     protected       HasMethodAnnotationTestClazz o2tClazz;
     protected final String                       methodName                  = "methodWithAnnnotation";
@@ -64,6 +88,26 @@ public class HasMethodAnnotationTest {
         verifyMatches(true, o2tClazz, methodName, annotationClazz);
     }
 
+    @Test
+    public void testMatches_withSubClazz_annotation_found() {
+        verifyMatches(true, new HasMethodAnnotationTestSubClazz(), methodName, annotationClazz);
+    }
+
+    @Test
+    public void testMatches_withComposedAnnotation_annotation_found() {
+        verifyMatches(true, new HasMethodAnnotationTestComposedClazz(), methodName, annotationClazz);
+    }
+
+    @Test
+    public void testMatches_withoutAnnotation_annotation_notFound() {
+        verifyMatches(false, o2tClazz, methodNameWithoutAnnotation, annotationClazz);
+    }
+
+    @Test
+    public void testMatches_withWrongMethodName_annotation_notFound() {
+        verifyMatches(false, o2tClazz, wrongMethodName, annotationClazz);
+    }
+
     @Test
     public void testDescribeTo_description_isChanged() {
         o2t = prepareMatcher(methodName, annotationClazz);
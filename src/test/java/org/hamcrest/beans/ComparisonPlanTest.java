@@ -0,0 +1,108 @@
+package org.hamcrest.beans;
+
+import org.junit.jupiter.api.Test;
+
+import java.beans.PropertyDescriptor;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @see ComparisonPlan
+ */
+public class ComparisonPlanTest {
+
+    private static final Class<?> EXPECTED_CLAZZ = SamePropertiesValuesAsTest.ExampleBean.class;
+    private static final Class<?> EXTRA_CLAZZ    = SamePropertiesValuesAsTest.SubBeanWithExtraProperty.class;
+
+    public static class WriteOnlyBean {
+        @SuppressWarnings("unused")
+        public void setValue(String value) {
+            // write only
+        }
+    }
+
+    public static class FailingBean {
+        public String getValue() {
+            throw new IllegalStateException("failing getter");
+        }
+    }
+
+    private static List<String> names(ComparisonPlan plan) {
+        return plan.getProperties().stream().map(PropertyDescriptor::getDisplayName).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testOf_sameTypesAndIgnored_return_cachedParts() {
+        ComparisonPlan actual = ComparisonPlan.of(EXPECTED_CLAZZ, EXTRA_CLAZZ, List.of("intProperty"));
+        ComparisonPlan other = ComparisonPlan.of(EXPECTED_CLAZZ, EXTRA_CLAZZ, List.of("intProperty"));
+
+        assertThat(actual.getProperties(), sameInstance(other.getProperties()));
+        assertThat(actual.getExtraProperties(), sameInstance(other.getExtraProperties()));
+        assertThat(actual.getProperties(), not(sameInstance(ComparisonPlan.of(EXPECTED_CLAZZ, EXTRA_CLAZZ, List.of()).getProperties())));
+        assertThat(actual.getProperties(), sameInstance(ComparisonPlan.of(EXPECTED_CLAZZ, EXPECTED_CLAZZ, List.of("intProperty")).getProperties()));
+        assertThat(ComparisonPlan.of(EXPECTED_CLAZZ, EXPECTED_CLAZZ, List.of("intProperty")).getActualClazz(), equalTo(EXPECTED_CLAZZ));
+    }
+
+    @Test
+    public void testOf_sameIgnoredInOtherOrder_return_cachedParts() {
+        ComparisonPlan actual = ComparisonPlan.of(EXPECTED_CLAZZ, EXTRA_CLAZZ, List.of("intProperty", "valueProperty"));
+        ComparisonPlan other = ComparisonPlan.of(EXPECTED_CLAZZ, EXTRA_CLAZZ, List.of("valueProperty", "intProperty", "intProperty"));
+
+        assertThat(actual.getProperties(), sameInstance(other.getProperties()));
+        assertThat(actual.getExtraProperties(), sameInstance(other.getExtraProperties()));
+    }
+
+    @Test
+    public void testOf_withNullIgnored_return_planWithoutIgnored() {
+        ComparisonPlan actual = ComparisonPlan.of(EXPECTED_CLAZZ, EXPECTED_CLAZZ, Arrays.asList(null, "intProperty"));
+
+        assertThat(names(actual), contains("stringProperty", "valueProperty"));
+    }
+
+    @Test
+    public void testOf_withIgnored_return_orderedPropertiesWithoutIgnored() {
+        ComparisonPlan actual = ComparisonPlan.of(EXPECTED_CLAZZ, EXPECTED_CLAZZ, List.of("intProperty"));
+
+        assertThat(names(actual), contains("stringProperty", "valueProperty"));
+        assertThat(actual.getExtraProperties(), empty());
+    }
+
+    @Test
+    public void testOf_withSubtype_return_extraProperties() {
+        assertThat(ComparisonPlan.of(EXPECTED_CLAZZ, EXTRA_CLAZZ, List.of()).getExtraProperties(), containsInAnyOrder("extraProperty"));
+        assertThat(ComparisonPlan.of(EXPECTED_CLAZZ, EXTRA_CLAZZ, List.of("extraProperty")).getExtraProperties(), empty());
+    }
+
+    @Test
+    public void testRead_withGetter_return_value() {
+        ComparisonPlan o2T = ComparisonPlan.of(EXPECTED_CLAZZ, EXPECTED_CLAZZ, List.of("intProperty", "valueProperty"));
+        SamePropertiesValuesAsTest.ExampleBean bean = new SamePropertiesValuesAsTest.ExampleBean("value", 1, null);
+
+        assertThat(o2T.read(0, bean), equalTo("value"));
+    }
+
+    @Test
+    public void testRead_withoutGetter_return_null() {
+        ComparisonPlan o2T = ComparisonPlan.of(WriteOnlyBean.class, WriteOnlyBean.class, List.of());
+
+        assertThat(o2T.read(0, new WriteOnlyBean()), nullValue());
+    }
+
+    @Test
+    public void testRead_withFailingGetter_throws_IllegalArgumentException() {
+        ComparisonPlan o2T = ComparisonPlan.of(FailingBean.class, FailingBean.class, List.of());
+
+        assertThrows(IllegalArgumentException.class, () -> o2T.read(0, new FailingBean()));
+    }
+}
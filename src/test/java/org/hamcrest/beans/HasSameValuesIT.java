@@ -6,11 +6,14 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.stream.IntStream;
+
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.containsStringIgnoringCase;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 
 public class HasSameValuesIT<T extends SimplePojo> extends HasSameValuesTest<T> {
 
@@ -35,7 +38,34 @@ public class HasSameValuesIT<T extends SimplePojo> extends HasSameValuesTest<T>
         final Description description = prepareDefaultDescription();
 
         o2T().describeMismatch(item, description);
-        verifyDescription(description, Matchers.matchesRegex(EMPTY_FIELDS));
+        verifyDescription(description, prepareMatcher_objectsAreDifferent_check());
+    }
+
+    @Test
+    public void testDescribeMismatch_afterOtherMismatch_description_hasOnlyOwnFields() {
+        final HasSameValues<T> tsO2T = tsO2T();
+        final T other = prepareArgumentToCompareWith();
+        final T item = prepareArgumentInMatcher();
+        item.setSimpleInt(DIFFERENT_INT);
+        final Description description = prepareDefaultDescription();
+
+        assertThat(tsO2T.matches(other), is(false));
+        assertThat(tsO2T.matches(item), is(false));
+        tsO2T.describeMismatch(item, description);
+        verifyDescription(description, not(containsString(FIELD_SIMPLE_STRING)));
+        verifyDescription(description, containsString(FIELD_SIMPLE_INT));
+    }
+
+    @Test
+    public void testMatches_sharedBetweenThreads_return_sameResults() {
+        final HasSameValues<T> tsO2T = tsO2T();
+        final T same = prepareArgumentInMatcher();
+        final T different = prepareArgumentToCompareWith();
+
+        final long actual = IntStream.range(0, 10_000).parallel()
+                .filter(i -> tsO2T.matches(i % 2 == 0 ? same : different) != (i % 2 == 0))
+                .count();
+        assertThat(actual, is(0L));
     }
 
     @Test
@@ -77,7 +77,7 @@ public class HasSameValuesTest<T extends SimplePojo> extends AbstractExtendedMat
 
     @Override
     protected Matcher<String> prepareMatcherDescriptionText_missmatchSafely_differentObject_check() {
-        return Matchers.matchesRegex(EMPTY_FIELDS);
+        return prepareMatcher_objectsAreDifferent_check();
     }
 
     @Override
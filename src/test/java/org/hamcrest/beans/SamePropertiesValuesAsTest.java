@@ -1,10 +1,15 @@
 package org.hamcrest.beans;
 
 import org.hamcrest.AbstractExtendedMatcherTest;
+import org.hamcrest.Description;
 import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
 
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
 
 /**
  * @param <T> type of the values
@@ -78,6 +83,27 @@ public class SamePropertiesValuesAsTest<T extends SamePropertiesValuesAsTest.Exa
         }
     }
 
+    static class CountingBean {
+        private final String first;
+        private final String second;
+        private       int    reads;
+
+        CountingBean(String first, String second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        public String getFirst() {
+            reads++;
+            return first;
+        }
+
+        public String getSecond() {
+            reads++;
+            return second;
+        }
+    }
+
     //FIXME: This must be unified
     protected static final String FIELD_INT    = "intProperty";
     protected static final String FIELD_STRING = "stringProperty";
@@ -229,4 +255,42 @@ public class SamePropertiesValuesAsTest<T extends SamePropertiesValuesAsTest.Exa
                 TXT_SAME_PROPERTY_VALUES_AS + VAL_EXAMPLE_BEAN_TO_STRING + " ignoring [\"ignored1\", \"ignored2\"]",
                 SamePropertiesValuesAs.samePropertiesValuesAs(EXPECTED_BEAN, "ignored1", "ignored2"));
     }
+
+    @Test
+    public void testMatches_withDifferences_stopsAtFirstDifference() {
+        Matcher<CountingBean> o2T = SamePropertiesValuesAs.samePropertiesValuesAs(new CountingBean(DEFAULT_STRING, DEFAULT_STRING));
+        CountingBean actual = new CountingBean(VAL_DIFFERENT, VAL_DIFFERENT);
+
+        assertThat(o2T.matches(actual), is(false));
+        assertThat(actual.reads, is(1));
+    }
+
+    @Test
+    public void testDescribeMismatch_withDifferences_reportsEveryDifference() {
+        Matcher<CountingBean> o2T = SamePropertiesValuesAs.samePropertiesValuesAs(new CountingBean(DEFAULT_STRING, DEFAULT_STRING));
+        CountingBean actual = new CountingBean(VAL_DIFFERENT, VAL_OTHER);
+        Description description = new StringDescription();
+
+        o2T.describeMismatch(actual, description);
+        assertThat(description.toString(), allOf(containsString("first was \"different\""), containsString("second was \"other\"")));
+    }
+
+    @Test
+    public void testMatches_withIncompatibleType_return_false() {
+        assertThat(SamePropertiesValuesAs.samePropertiesValuesAs((Object) DEFAULT_OBJECT).matches(ACTUAL_BEAN), is(false));
+    }
+
+    @Test
+    public void testMatches_withSubtypes_usesPlanOfEachType() {
+        Matcher<ExampleBean> o2T = SamePropertiesValuesAs.samePropertiesValuesAs(EXPECTED_BEAN);
+        ExampleBean noExtra = new SubBeanWithNoExtraProperties(DEFAULT_STRING, DEFAULT_INT, DEFAULT_OBJECT);
+        ExampleBean extra = new SubBeanWithExtraProperty(DEFAULT_STRING, DEFAULT_INT, DEFAULT_OBJECT);
+        Description description = new StringDescription();
+
+        assertThat(o2T.matches(noExtra), is(true));
+        assertThat(o2T.matches(extra), is(false));
+        assertThat(o2T.matches(noExtra), is(true));
+        o2T.describeMismatch(extra, description);
+        assertThat(description.toString(), containsString(TXT_HAS_EXTRA_PROPERTIES_CALLED + " [" + VAL_EXTRA_PROPERTY + "]"));
+    }
 }
@@ -0,0 +1,157 @@
+package org.hamcrest.core;
+
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @see BulkBetween
+ */
+public class BulkBetweenTest {
+
+    /**
+     * More than two chunks, so the chunk borders are crossed.
+     */
+    private static final int SIZE = PrimitiveBetween.CHUNK_SIZE * 2 + 7;
+
+    private static final IsBetween.Range<Double>  DOUBLE_RANGE = new IsBetween.Range<>(0d, 1d);
+    private static final IsBetween.Range<Long>    LONG_RANGE   = new IsBetween.Range<>(0L, 100L);
+    private static final IsBetween.Range<Integer> INT_RANGE    = new IsBetween.Range<>(0, 100);
+
+    @TempDir
+    Path tempDir;
+
+    private static double[] doubles() {
+        double[] values = new double[SIZE];
+        Arrays.fill(values, 0.5d);
+        return values;
+    }
+
+    private static long[] longs() {
+        long[] values = new long[SIZE];
+        Arrays.fill(values, 50L);
+        return values;
+    }
+
+    private static int[] ints() {
+        int[] values = new int[SIZE];
+        Arrays.fill(values, 50);
+        return values;
+    }
+
+    @Test
+    public void testCheckAll_doublesInRange_return_inRange() {
+        RangeCheckResult actual = BulkBetween.checkAll(doubles(), DOUBLE_RANGE, false);
+
+        assertThat(actual, BulkBetween.allInRange());
+        assertThat(actual.getLength(), is((long) SIZE));
+    }
+
+    @Test
+    public void testCheckAll_doublesOutOfRange_return_firstIndexAndCount() {
+        double[] values = doubles();
+        values[PrimitiveBetween.CHUNK_SIZE + 1] = 2d;
+        values[SIZE - 1] = Double.NaN;
+        values[SIZE - 2] = 1d;
+
+        RangeCheckResult actual = BulkBetween.checkAll(values, DOUBLE_RANGE, true);
+
+        assertThat(actual.getCount(), is(2L));
+        assertThat(actual.getFirstIndex(), is(PrimitiveBetween.CHUNK_SIZE + 1L));
+    }
+
+    @Test
+    public void testCheckAll_longsAtBound_return_countWithoutBound() {
+        long[] values = longs();
+        values[3] = 0L;
+        values[SIZE - 1] = 100L;
+
+        assertThat(BulkBetween.checkAll(values, LONG_RANGE, true), BulkBetween.allInRange());
+        RangeCheckResult actual = BulkBetween.checkAll(values, LONG_RANGE, false);
+        assertThat(actual.getCount(), is(2L));
+        assertThat(actual.getFirstIndex(), is(3L));
+    }
+
+    @Test
+    public void testCheckAll_heapIntBuffer_return_indexRelativeToPosition() {
+        int[] values = ints();
+        values[10] = -1;
+        values[20] = 101;
+        IntBuffer buffer = IntBuffer.wrap(values);
+        buffer.position(15);
+
+        RangeCheckResult actual = BulkBetween.checkAll(buffer, INT_RANGE, true);
+
+        assertThat(actual.getLength(), is(SIZE - 15L));
+        assertThat(actual.getCount(), is(1L));
+        assertThat(actual.getFirstIndex(), is(5L));
+        assertThat(buffer.position(), is(15));
+    }
+
+    @Test
+    public void testCheckAll_directIntBuffer_return_firstIndexAndCount() {
+        IntBuffer buffer = ByteBuffer.allocateDirect(SIZE * Integer.BYTES).asIntBuffer().put(ints());
+        buffer.put(PrimitiveBetween.CHUNK_SIZE * 2, 200).put(SIZE - 1, 200).flip();
+
+        RangeCheckResult actual = BulkBetween.checkAll(buffer, INT_RANGE, false);
+
+        assertThat(actual.getCount(), is(2L));
+        assertThat(actual.getFirstIndex(), is(PrimitiveBetween.CHUNK_SIZE * 2L));
+    }
+
+    @Test
+    public void testCheckAllDoubles_mappedFile_return_firstIndexAndCount() throws IOException {
+        Path dump = tempDir.resolve("values.bin");
+        try (FileChannel channel = FileChannel.open(dump, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) SIZE * Double.BYTES);
+            mapped.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer().put(doubles()).put(SIZE - 3, -0.5d);
+
+            RangeCheckResult actual = BulkBetween.checkAllDoubles(mapped.order(ByteOrder.LITTLE_ENDIAN), DOUBLE_RANGE, true);
+
+            assertThat(actual.getCount(), is(1L));
+            assertThat(actual.getFirstIndex(), is(SIZE - 3L));
+        }
+    }
+
+    @Test
+    public void testCheckAllLongsAndInts_byteBuffer_return_inRange() {
+        ByteBuffer longBuffer = ByteBuffer.allocate(SIZE * Long.BYTES);
+        longBuffer.asLongBuffer().put(longs());
+        ByteBuffer intBuffer = ByteBuffer.allocate(SIZE * Integer.BYTES);
+        intBuffer.asIntBuffer().put(ints());
+
+        assertThat(BulkBetween.checkAllLongs(longBuffer, LONG_RANGE, false), BulkBetween.allInRange());
+        assertThat(BulkBetween.checkAllInts(intBuffer, INT_RANGE, false), BulkBetween.allInRange());
+    }
+
+    @Test
+    public void testCheckAll_withNullRange_throws_failure() {
+        assertThrows(AssertionError.class, () -> BulkBetween.checkAll(doubles(), null, true));
+        assertThrows(AssertionError.class, () -> BulkBetween.checkAll(longs(), new IsBetween.Range<>(null, 1L), true));
+    }
+
+    @Test
+    public void testAllInRange_outOfRange_describeMismatch() {
+        RangeCheckResult result = new RangeCheckResult(10, 2, 4);
+        StringDescription description = new StringDescription();
+
+        BulkBetween.allInRange().describeMismatch(result, description);
+        assertThat(BulkBetween.allInRange().matches(result), is(false));
+        assertThat(description.toString(), containsString("2 of 10 values are out of range, first at index 4"));
+    }
+}
@@ -0,0 +1,117 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @see DoubleBetween
+ */
+public class DoubleBetweenTest {
+
+    protected static final double LBOUND = 1d;
+    protected static final double UBOUND = 10d;
+
+    @Test
+    public void testMatches_inRange_return_true() {
+        DoubleBetween o2T = DoubleBetween.between(LBOUND, UBOUND);
+
+        assertThat(o2T.matches(LBOUND + 1), is(true));
+        assertThat(o2T.matches(UBOUND - 1), is(true));
+    }
+
+    @Test
+    public void testMatches_atBound_return_false() {
+        DoubleBetween o2T = DoubleBetween.between(LBOUND, UBOUND);
+
+        assertThat(o2T.matches(LBOUND), is(false));
+        assertThat(o2T.matches(UBOUND), is(false));
+    }
+
+    @Test
+    public void testMatches_withBoundAtBound_return_true() {
+        DoubleBetween o2T = DoubleBetween.betweenWithBound(LBOUND, UBOUND);
+
+        assertThat(o2T.matches(LBOUND), is(true));
+        assertThat(o2T.matches(UBOUND), is(true));
+        assertThat(o2T.matches(UBOUND + 1), is(false));
+    }
+
+    @Test
+    public void testMatches_boxedValue_return_sameAsPrimitive() {
+        DoubleBetween o2T = DoubleBetween.between(LBOUND, UBOUND);
+
+        assertThat(o2T.matches((Double) (LBOUND + 1)), is(true));
+        assertThat(o2T.matches((Double) UBOUND), is(false));
+        assertThat(o2T.matches((Object) null), is(false));
+        assertThat(o2T.matches("5"), is(false));
+    }
+
+    @Test
+    public void testMatchesAll_allInRange_return_noIndex() {
+        DoubleBetween o2T = DoubleBetween.betweenWithBound(LBOUND, UBOUND);
+
+        RangeCheckResult actual = o2T.matchesAll(new double[]{LBOUND, 5d, UBOUND});
+
+        assertThat(actual.isInRange(), is(true));
+        assertThat(actual.getCount(), is(0L));
+        assertThat(actual.getFirstIndex(), is(RangeCheckResult.NO_INDEX));
+        assertThat(actual.getLength(), is(3L));
+    }
+
+    @Test
+    public void testMatchesAll_someOutOfRange_return_firstIndexAndCount() {
+        DoubleBetween o2T = DoubleBetween.between(LBOUND, UBOUND);
+
+        RangeCheckResult actual = o2T.matchesAll(new double[]{5d, 5d, LBOUND, 5d, UBOUND, 11d});
+
+        assertThat(actual.isInRange(), is(false));
+        assertThat(actual.getCount(), is(3L));
+        assertThat(actual.getFirstIndex(), is(2L));
+    }
+
+    @Test
+    public void testMatches_nan_return_false() {
+        assertThat(DoubleBetween.betweenWithBound(LBOUND, UBOUND).matches(Double.NaN), is(false));
+        assertThat(DoubleBetween.betweenWithBound(LBOUND, UBOUND).matchesAll(new double[]{5d, Double.NaN}).getFirstIndex(), is(1L));
+    }
+
+    @Test
+    public void testMatchesAll_empty_return_inRange() {
+        assertThat(DoubleBetween.between(LBOUND, UBOUND).matchesAll(new double[0]).isInRange(), is(true));
+    }
+
+    @Test
+    public void testCreate_withWrongRange_throws_failure() {
+        assertThrows(AssertionError.class, () -> DoubleBetween.between(UBOUND, LBOUND));
+        assertThrows(AssertionError.class, () -> DoubleBetween.between(LBOUND, LBOUND));
+        assertThat(DoubleBetween.betweenWithBound(LBOUND, LBOUND).matches(LBOUND), is(true));
+    }
+
+    @Test
+    public void testDescribe_likeIsBetween() {
+        DoubleBetween o2T = DoubleBetween.between(LBOUND, UBOUND);
+        Description expected = new StringDescription();
+        IsBetween.between((Double) LBOUND, (Double) UBOUND).describeTo(expected);
+        Description actual = new StringDescription();
+
+        o2T.describeTo(actual);
+        assertThat(actual.toString(), equalTo(expected.toString()));
+    }
+
+    @Test
+    public void testDescribeMismatch_containsValue() {
+        DoubleBetween o2T = DoubleBetween.betweenWithBound(LBOUND, UBOUND);
+        Description actual = new StringDescription();
+
+        o2T.describeMismatch((Double) (UBOUND + 1), actual);
+        assertThat(actual.toString(), containsString(String.valueOf(UBOUND + 1)));
+        assertThat(actual.toString(), containsString(IsBetweenWithBound.RANGE_INFO_INCLUDED));
+    }
+}
@@ -0,0 +1,121 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @see IntBetween
+ */
+public class IntBetweenTest {
+
+    protected static final int LBOUND = 1;
+    protected static final int UBOUND = 10;
+
+    @Test
+    public void testMatches_inRange_return_true() {
+        IntBetween o2T = IntBetween.between(LBOUND, UBOUND);
+
+        assertThat(o2T.matches(LBOUND + 1), is(true));
+        assertThat(o2T.matches(UBOUND - 1), is(true));
+    }
+
+    @Test
+    public void testMatches_atBound_return_false() {
+        IntBetween o2T = IntBetween.between(LBOUND, UBOUND);
+
+        assertThat(o2T.matches(LBOUND), is(false));
+        assertThat(o2T.matches(UBOUND), is(false));
+    }
+
+    @Test
+    public void testMatches_withBoundAtBound_return_true() {
+        IntBetween o2T = IntBetween.betweenWithBound(LBOUND, UBOUND);
+
+        assertThat(o2T.matches(LBOUND), is(true));
+        assertThat(o2T.matches(UBOUND), is(true));
+        assertThat(o2T.matches(UBOUND + 1), is(false));
+    }
+
+    @Test
+    public void testMatches_boxedValue_return_sameAsPrimitive() {
+        IntBetween o2T = IntBetween.between(LBOUND, UBOUND);
+
+        assertThat(o2T.matches((Integer) (LBOUND + 1)), is(true));
+        assertThat(o2T.matches((Integer) UBOUND), is(false));
+        assertThat(o2T.matches((Object) null), is(false));
+        assertThat(o2T.matches("5"), is(false));
+    }
+
+    @Test
+    public void testMatchesAll_allInRange_return_noIndex() {
+        IntBetween o2T = IntBetween.betweenWithBound(LBOUND, UBOUND);
+
+        RangeCheckResult actual = o2T.matchesAll(new int[]{LBOUND, 5, UBOUND});
+
+        assertThat(actual.isInRange(), is(true));
+        assertThat(actual.getCount(), is(0L));
+        assertThat(actual.getFirstIndex(), is(RangeCheckResult.NO_INDEX));
+        assertThat(actual.getLength(), is(3L));
+    }
+
+    @Test
+    public void testMatchesAll_someOutOfRange_return_firstIndexAndCount() {
+        IntBetween o2T = IntBetween.between(LBOUND, UBOUND);
+
+        RangeCheckResult actual = o2T.matchesAll(new int[]{5, 5, LBOUND, 5, UBOUND, 11});
+
+        assertThat(actual.isInRange(), is(false));
+        assertThat(actual.getCount(), is(3L));
+        assertThat(actual.getFirstIndex(), is(2L));
+    }
+
+    @Test
+    public void testMatchesAll_empty_return_inRange() {
+        assertThat(IntBetween.between(LBOUND, UBOUND).matchesAll(new int[0]).isInRange(), is(true));
+    }
+
+    @Test
+    public void testChunkEnd_nearMaxValue_return_noOverflow() {
+        int to = Integer.MAX_VALUE;
+        int start = to - PrimitiveBetween.CHUNK_SIZE + 1;
+
+        assertThat(PrimitiveBetween.chunkEnd(start, to), is(to));
+        assertThat(PrimitiveBetween.chunkEnd(start - 2, to), is(to - 1));
+        assertThat(PrimitiveBetween.chunkEnd(0, 10), is(10));
+    }
+
+    @Test
+    public void testCreate_withWrongRange_throws_failure() {
+        assertThrows(AssertionError.class, () -> IntBetween.between(UBOUND, LBOUND));
+        assertThrows(AssertionError.class, () -> IntBetween.between(LBOUND, LBOUND));
+        assertThat(IntBetween.betweenWithBound(LBOUND, LBOUND).matches(LBOUND), is(true));
+    }
+
+    @Test
+    public void testDescribe_likeIsBetween() {
+        IntBetween o2T = IntBetween.between(LBOUND, UBOUND);
+        Description expected = new StringDescription();
+        IsBetween.between((Integer) LBOUND, (Integer) UBOUND).describeTo(expected);
+        Description actual = new StringDescription();
+
+        o2T.describeTo(actual);
+        assertThat(actual.toString(), equalTo(expected.toString()));
+    }
+
+    @Test
+    public void testDescribeMismatch_containsValue() {
+        IntBetween o2T = IntBetween.betweenWithBound(LBOUND, UBOUND);
+        Description actual = new StringDescription();
+
+        o2T.describeMismatch((Integer) (UBOUND + 1), actual);
+        assertThat(actual.toString(), containsString(String.valueOf(UBOUND + 1)));
+        assertThat(actual.toString(), containsString(IsBetweenWithBound.RANGE_INFO_INCLUDED));
+    }
+}
@@ -12,6 +12,7 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 
 /**
  * @see IsBetween
@@ -89,7 +90,7 @@ public class IsBetweenTest {
 
         o2T.describeMismatchSafely(actual, description);
         assertThat(description, not(equalTo(DESCRIPTION_DEFAULT)));
-        assertThat(description.toString(), containsString(IsBetween.DESC_MISMATCH.toString()));
+        assertThat(description.toString(), containsString(o2T.getMismatchText()));
     }
 
     @Test
@@ -124,7 +125,33 @@ public class IsBetweenTest {
 
         o2T.describeTo(description);
         assertThat(description, not(equalTo(DESCRIPTION_DEFAULT)));
-        assertThat(description.toString(), containsString(IsBetween.DESC_DESCRIPTION.toString()));
+        assertThat(description.toString(), containsString(o2T.getDescriptionText()));
+    }
+
+    @Test
+    public void testDescribeToAfterManyMatchersKeepsDescription() {
+        String expected = o2T.getDescriptionText();
+        for (int i = 0; i < 100; i++) {
+            IsBetween.between(LBOUND, UBOUND + i).describeTo(new StringDescription());
+        }
+        Description description = new StringDescription();
+
+        o2T.describeTo(description);
+        assertThat(description.toString(), equalTo(expected));
+        assertThat(o2T.getDescriptionText(), sameInstance(expected));
+    }
+
+    @Test
+    public void testDescribeMismatchAfterManyMatchersKeepsMismatch() {
+        String expected = o2T.getMismatchText();
+        for (int i = 0; i < 100; i++) {
+            IsBetween.between(LBOUND, UBOUND + i).describeMismatch(LBOUND, new StringDescription());
+        }
+        Description description = new StringDescription();
+
+        o2T.describeMismatchSafely(LBOUND, description);
+        assertThat(description.toString(), equalTo(new StringDescription().appendValue(LBOUND).appendText(expected).toString()));
+        assertThat(o2T.getMismatchText(), sameInstance(expected));
     }
 
     @Test
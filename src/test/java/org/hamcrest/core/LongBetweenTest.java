@@ -0,0 +1,111 @@
+package org.hamcrest.core;
+
+import org.hamcrest.Description;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @see LongBetween
+ */
+public class LongBetweenTest {
+
+    protected static final long LBOUND = 1L;
+    protected static final long UBOUND = 10L;
+
+    @Test
+    public void testMatches_inRange_return_true() {
+        LongBetween o2T = LongBetween.between(LBOUND, UBOUND);
+
+        assertThat(o2T.matches(LBOUND + 1), is(true));
+        assertThat(o2T.matches(UBOUND - 1), is(true));
+    }
+
+    @Test
+    public void testMatches_atBound_return_false() {
+        LongBetween o2T = LongBetween.between(LBOUND, UBOUND);
+
+        assertThat(o2T.matches(LBOUND), is(false));
+        assertThat(o2T.matches(UBOUND), is(false));
+    }
+
+    @Test
+    public void testMatches_withBoundAtBound_return_true() {
+        LongBetween o2T = LongBetween.betweenWithBound(LBOUND, UBOUND);
+
+        assertThat(o2T.matches(LBOUND), is(true));
+        assertThat(o2T.matches(UBOUND), is(true));
+        assertThat(o2T.matches(UBOUND + 1), is(false));
+    }
+
+    @Test
+    public void testMatches_boxedValue_return_sameAsPrimitive() {
+        LongBetween o2T = LongBetween.between(LBOUND, UBOUND);
+
+        assertThat(o2T.matches((Long) (LBOUND + 1)), is(true));
+        assertThat(o2T.matches((Long) UBOUND), is(false));
+        assertThat(o2T.matches((Object) null), is(false));
+        assertThat(o2T.matches("5"), is(false));
+    }
+
+    @Test
+    public void testMatchesAll_allInRange_return_noIndex() {
+        LongBetween o2T = LongBetween.betweenWithBound(LBOUND, UBOUND);
+
+        RangeCheckResult actual = o2T.matchesAll(new long[]{LBOUND, 5L, UBOUND});
+
+        assertThat(actual.isInRange(), is(true));
+        assertThat(actual.getCount(), is(0L));
+        assertThat(actual.getFirstIndex(), is(RangeCheckResult.NO_INDEX));
+        assertThat(actual.getLength(), is(3L));
+    }
+
+    @Test
+    public void testMatchesAll_someOutOfRange_return_firstIndexAndCount() {
+        LongBetween o2T = LongBetween.between(LBOUND, UBOUND);
+
+        RangeCheckResult actual = o2T.matchesAll(new long[]{5L, 5L, LBOUND, 5L, UBOUND, 11L});
+
+        assertThat(actual.isInRange(), is(false));
+        assertThat(actual.getCount(), is(3L));
+        assertThat(actual.getFirstIndex(), is(2L));
+    }
+
+    @Test
+    public void testMatchesAll_empty_return_inRange() {
+        assertThat(LongBetween.between(LBOUND, UBOUND).matchesAll(new long[0]).isInRange(), is(true));
+    }
+
+    @Test
+    public void testCreate_withWrongRange_throws_failure() {
+        assertThrows(AssertionError.class, () -> LongBetween.between(UBOUND, LBOUND));
+        assertThrows(AssertionError.class, () -> LongBetween.between(LBOUND, LBOUND));
+        assertThat(LongBetween.betweenWithBound(LBOUND, LBOUND).matches(LBOUND), is(true));
+    }
+
+    @Test
+    public void testDescribe_likeIsBetween() {
+        LongBetween o2T = LongBetween.between(LBOUND, UBOUND);
+        Description expected = new StringDescription();
+        IsBetween.between((Long) LBOUND, (Long) UBOUND).describeTo(expected);
+        Description actual = new StringDescription();
+
+        o2T.describeTo(actual);
+        assertThat(actual.toString(), equalTo(expected.toString()));
+    }
+
+    @Test
+    public void testDescribeMismatch_containsValue() {
+        LongBetween o2T = LongBetween.betweenWithBound(LBOUND, UBOUND);
+        Description actual = new StringDescription();
+
+        o2T.describeMismatch((Long) (UBOUND + 1), actual);
+        assertThat(actual.toString(), containsString(String.valueOf(UBOUND + 1)));
+        assertThat(actual.toString(), containsString(IsBetweenWithBound.RANGE_INFO_INCLUDED));
+    }
+}